@@ -2,13 +2,19 @@ package ragdollphysics;
 
 import basemod.BaseMod;
 import basemod.ModLabeledToggleButton;
+import basemod.ModMinMaxSlider;
 import basemod.ModPanel;
+import basemod.devcommands.ConsoleCommand;
 import basemod.interfaces.EditKeywordsSubscriber;
 import basemod.interfaces.EditStringsSubscriber;
 import basemod.interfaces.PostInitializeSubscriber;
 import com.evacipated.cardcrawl.modthespire.lib.SpireConfig;
 import com.megacrit.cardcrawl.core.CardCrawlGame;
 import com.megacrit.cardcrawl.helpers.FontHelper;
+import ragdollphysics.commands.RagdollStatsCommand;
+import ragdollphysics.effects.RagdollParticles;
+import ragdollphysics.ragdollutil.DebrisAtlas;
+import ragdollphysics.ragdollutil.ImpactEvents;
 import ragdollphysics.util.GeneralUtils;
 import ragdollphysics.util.KeywordInfo;
 import ragdollphysics.util.TextureLoader;
@@ -50,6 +56,12 @@ public class RagdollPhysics implements
     public static boolean enableQuickDespawn;
     public static boolean enableAllShatter;
     public static boolean enablePlayerRagdolls;
+    public static boolean enableDebrisAtlas;
+
+    // Limits on live bodies - past them the oldest ragdolls and debris are faded out and recycled
+    public static int maxRagdolls;
+    public static int maxDebris;
+    public static int maxDebrisPerRagdoll;
 
     public static String makeID(String id) {
         return modID + ":" + id;
@@ -64,6 +76,10 @@ public class RagdollPhysics implements
         defaults.setProperty("enableQuickDespawn", "true");
         defaults.setProperty("enableAllShatter", "false");
         defaults.setProperty("enablePlayerRagdolls", "true");
+        defaults.setProperty("enableDebrisAtlas", "false");
+        defaults.setProperty("maxRagdolls", "10");
+        defaults.setProperty("maxDebris", "300");
+        defaults.setProperty("maxDebrisPerRagdoll", "80");
         config = new SpireConfig(modID, "config", defaults);
         enableZeroGravity = config.getBool("enableZeroGravity");
         enableDebugSquares = config.getBool("enableDebugSquares");
@@ -71,6 +87,10 @@ public class RagdollPhysics implements
         enableQuickDespawn = config.getBool("enableQuickDespawn");
         enableAllShatter = config.getBool("enableAllShatter");
         enablePlayerRagdolls = config.getBool("enablePlayerRagdolls");
+        enableDebrisAtlas = config.getBool("enableDebrisAtlas");
+        maxRagdolls = config.getInt("maxRagdolls");
+        maxDebris = config.getInt("maxDebris");
+        maxDebrisPerRagdoll = config.getInt("maxDebrisPerRagdoll");
         new RagdollPhysics();
     }
 
@@ -125,6 +145,39 @@ public class RagdollPhysics implements
             try {config.save();} catch (Exception e) {}
         }));
 
+        settingsPanel.addUIElement(new ModMinMaxSlider(TEXT[5], 350, 430, 2, 30, maxRagdolls, "%.0f", settingsPanel, slider -> {
+            maxRagdolls = Math.round(slider.getValue());
+            config.setInt("maxRagdolls", maxRagdolls);
+            try {config.save();} catch (Exception e) {}
+        }));
+
+        settingsPanel.addUIElement(new ModMinMaxSlider(TEXT[6], 350, 370, 50, 1000, maxDebris, "%.0f", settingsPanel, slider -> {
+            maxDebris = Math.round(slider.getValue());
+            config.setInt("maxDebris", maxDebris);
+            try {config.save();} catch (Exception e) {}
+        }));
+
+        settingsPanel.addUIElement(new ModMinMaxSlider(TEXT[7], 350, 310, 10, 200, maxDebrisPerRagdoll, "%.0f", settingsPanel, slider -> {
+            maxDebrisPerRagdoll = Math.round(slider.getValue());
+            config.setInt("maxDebrisPerRagdoll", maxDebrisPerRagdoll);
+            try {config.save();} catch (Exception e) {}
+        }));
+
+        settingsPanel.addUIElement(new ModLabeledToggleButton(TEXT[8], 350, 250, Settings.CREAM_COLOR, FontHelper.charDescFont, config.getBool("enableDebrisAtlas"), settingsPanel, label -> {}, button -> {
+            enableDebrisAtlas = button.enabled;
+            if (!button.enabled) {
+                DebrisAtlas.clear(); // free the shared pages' video memory
+            }
+            config.setBool("enableDebrisAtlas", button.enabled);
+            try {config.save();} catch (Exception e) {}
+        }));
+
+        // Ground impacts throw dust - a couple dozen bursts a frame at most, however many shards land
+        ImpactEvents.subscribe(ImpactEvents.GROUND, 24, 0f, RagdollParticles.IMPACT_DUST);
+
+        // "ragdollstats on|off|dump|reset" - render cost accounting for debugging
+        ConsoleCommand.addCommand("ragdollstats", RagdollStatsCommand.class);
+
         Texture badgeTexture = TextureLoader.getTexture(imagePath("badge.png"));
         BaseMod.registerModBadge(badgeTexture, info.Name, GeneralUtils.arrToString(info.Authors), info.Description, settingsPanel);
     }
@@ -1,24 +1,26 @@
 
 package ragdollphysics.actions;
 
-import basemod.BaseMod;
 import com.badlogic.gdx.Gdx;
 import com.megacrit.cardcrawl.actions.AbstractGameAction;
 import com.megacrit.cardcrawl.characters.AbstractPlayer;
-import com.megacrit.cardcrawl.core.AbstractCreature;
+import com.esotericsoftware.spine.Skeleton;
+import ragdollphysics.ragdollutil.CreatureAccessors;
 import ragdollphysics.ragdollutil.MultiBodyRagdoll;
 import ragdollphysics.ragdollutil.RagdollManager;
+import ragdollphysics.ragdollutil.RagdollState;
 
-import java.lang.reflect.Field;
-import java.lang.reflect.Method;
-
-public class PlayerRagdollWaitAction extends AbstractGameAction {
+/**
+ * Holds the action queue until the player's ragdoll settles. Waits for the manager's SETTLED
+ * transition rather than polling, and gives up after a few seconds if the ragdoll never settles.
+ */
+public class PlayerRagdollWaitAction extends AbstractGameAction implements RagdollManager.StateListener {
     private static final float RAGDOLL_TIMEOUT = 5.0f;
-    private static final float SETTLE_CHECK_INTERVAL = 0.1f;
 
     private final AbstractPlayer player;
     private final RagdollManager ragdollManager;
-    private float settleCheckTimer = 0f;
+    private MultiBodyRagdoll ragdoll; // set on the first update
+    private boolean settled = false;
     private float totalTime = 0f;
 
     // Store original player position for image-based restoration
@@ -38,21 +40,29 @@ public class PlayerRagdollWaitAction extends AbstractGameAction {
     @Override
     public void update() {
         totalTime += Gdx.graphics.getDeltaTime();
-        settleCheckTimer += Gdx.graphics.getDeltaTime();
 
-        // Check if ragdoll has settled
-        if (settleCheckTimer >= SETTLE_CHECK_INTERVAL) {
-            settleCheckTimer = 0f;
-            if (ragdollManager.isPlayerRagdollSettled(player)) {
+        if (ragdoll == null) {
+            // The death VFX creates the ragdoll - nothing to wait for without one
+            ragdoll = ragdollManager.getPlayerRagdoll(player);
+            if (ragdoll == null) {
                 finishAction();
                 return;
             }
+            settled = ragdoll.getState().isAtLeast(RagdollState.SETTLED);
+            ragdollManager.addStateListener(ragdoll, this);
         }
 
-        // Failsafe timeout
-        if (totalTime >= RAGDOLL_TIMEOUT) {
+        // Also stop if the ragdoll was dropped (render failure) - it will never settle
+        if (settled || totalTime >= RAGDOLL_TIMEOUT || ragdollManager.getPlayerRagdoll(player) != ragdoll) {
+            ragdollManager.removeStateListener(ragdoll, this);
             finishAction();
-            return;
+        }
+    }
+
+    @Override
+    public void onStateChanged(MultiBodyRagdoll ragdoll, RagdollState state) {
+        if (state == RagdollState.SETTLED) {
+            settled = true;
         }
     }
 
@@ -85,17 +95,13 @@ public class PlayerRagdollWaitAction extends AbstractGameAction {
             player.drawX = originalDrawX;
             player.drawY = originalDrawY;
         } else {
-            // Original skeleton-based restoration (unchanged)
+            // Skeleton-based restoration: reset the pose the ragdoll overwrote
             try {
-                Field skeletonField = AbstractCreature.class.getDeclaredField("skeleton");
-                skeletonField.setAccessible(true);
-                Object skeleton = skeletonField.get(player);
+                Skeleton skeleton = CreatureAccessors.getSkeleton(player);
 
                 if (skeleton != null) {
-                    Method setToSetupPose = skeleton.getClass().getMethod("setToSetupPose");
-                    setToSetupPose.invoke(skeleton);
-                    Method updateWorldTransform = skeleton.getClass().getMethod("updateWorldTransform");
-                    updateWorldTransform.invoke(skeleton);
+                    skeleton.setToSetupPose();
+                    skeleton.updateWorldTransform();
                 }
             } catch (Exception e) {
 
@@ -0,0 +1,68 @@
+package ragdollphysics.commands;
+
+import basemod.DevConsole;
+import basemod.devcommands.ConsoleCommand;
+import ragdollphysics.ragdollutil.RenderStats;
+
+import java.util.ArrayList;
+
+/**
+ * Dev console access to RenderStats: "ragdollstats on|off|dump|reset".
+ * dump prints the rolling-window summary to the console and the log.
+ */
+public class RagdollStatsCommand extends ConsoleCommand {
+
+    public RagdollStatsCommand() {
+        this.requiresPlayer = false;
+        this.minExtraTokens = 1;
+        this.maxExtraTokens = 1;
+        this.simpleCheck = true;
+    }
+
+    @Override
+    protected void execute(String[] tokens, int depth) {
+        switch (tokens[depth].toLowerCase()) {
+            case "on":
+                RenderStats.enabled = true;
+                DevConsole.log("Ragdoll render stats enabled");
+                break;
+            case "off":
+                RenderStats.enabled = false;
+                DevConsole.log("Ragdoll render stats disabled");
+                break;
+            case "dump":
+                for (String line : RenderStats.getSummary().split("\\R")) {
+                    DevConsole.log(line);
+                }
+                RenderStats.dump();
+                break;
+            case "reset":
+                RenderStats.reset();
+                DevConsole.log("Ragdoll render stats cleared");
+                break;
+            default:
+                errorMsg();
+                break;
+        }
+    }
+
+    @Override
+    public ArrayList<String> extraOptions(String[] tokens, int depth) {
+        ArrayList<String> options = new ArrayList<>();
+        options.add("on");
+        options.add("off");
+        options.add("dump");
+        options.add("reset");
+        return options;
+    }
+
+    @Override
+    public void errorMsg() {
+        DevConsole.couldNotParse();
+        DevConsole.log("options are:");
+        DevConsole.log("* on");
+        DevConsole.log("* off");
+        DevConsole.log("* dump");
+        DevConsole.log("* reset");
+    }
+}
@@ -1,61 +1,60 @@
 package ragdollphysics.effects;
 
-import basemod.BaseMod;
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.megacrit.cardcrawl.characters.AbstractPlayer;
-import com.megacrit.cardcrawl.core.AbstractCreature;
 import com.megacrit.cardcrawl.vfx.AbstractGameEffect;
+import ragdollphysics.ragdollutil.MultiBodyRagdoll;
 import ragdollphysics.ragdollutil.RagdollManager;
+import ragdollphysics.ragdollutil.RagdollState;
 
-import java.lang.reflect.Field;
-import java.lang.reflect.Method;
-
-public class PlayerRagdollVFX extends AbstractGameEffect {
-    private static final float RAGDOLL_TIMEOUT = 5.0f;
-    private static final float SETTLE_CHECK_INTERVAL = 0.1f;
-
+/**
+ * Creates the player's ragdoll and stays in the effect list until the ragdoll settles,
+ * as signalled by the manager's SETTLED transition.
+ */
+public class PlayerRagdollVFX extends AbstractGameEffect implements RagdollManager.StateListener {
     private final AbstractPlayer player;
     private final RagdollManager ragdollManager;
-    private boolean ragdollCreated = false;
-    private float settleCheckTimer = 0f;
-    private float totalTime = 0f;
+    private MultiBodyRagdoll ragdoll; // set on the first update
+    private boolean settled = false;
 
     public PlayerRagdollVFX(AbstractPlayer player, RagdollManager ragdollManager) {
         this.player = player;
         this.ragdollManager = ragdollManager;
-        this.duration = RAGDOLL_TIMEOUT;
     }
 
     @Override
     public void update() {
-        if (!ragdollCreated) {
-            ragdollManager.createPlayerRagdollImmediately(player);
-            ragdollCreated = true;
-        }
-
-        totalTime += Gdx.graphics.getDeltaTime();
-        settleCheckTimer += Gdx.graphics.getDeltaTime();
-
-        // Only check if ragdoll has settled - no revival checking
-        if (settleCheckTimer >= SETTLE_CHECK_INTERVAL) {
-            settleCheckTimer = 0f;
-
-            if (ragdollManager.isPlayerRagdollSettled(player)) {
+        if (ragdoll == null) {
+            if (!ragdollManager.createPlayerRagdollImmediately(player)) {
                 this.isDone = true;
                 return;
             }
+            ragdoll = ragdollManager.getPlayerRagdoll(player);
+            settled = ragdoll.getState().isAtLeast(RagdollState.SETTLED);
+            ragdollManager.addStateListener(ragdoll, this);
         }
 
-        // Failsafe timeout
-        if (totalTime >= RAGDOLL_TIMEOUT) {
+        // Only wait for the ragdoll to settle - no revival checking
+        if (settled || ragdollManager.getPlayerRagdoll(player) != ragdoll) {
+            ragdollManager.removeStateListener(ragdoll, this);
             this.isDone = true;
         }
     }
 
+    @Override
+    public void onStateChanged(MultiBodyRagdoll ragdoll, RagdollState state) {
+        if (state == RagdollState.SETTLED) {
+            settled = true;
+        }
+    }
+
     @Override
     public void render(SpriteBatch sb) {}
 
     @Override
-    public void dispose() {}
+    public void dispose() {
+        if (ragdoll != null) {
+            ragdollManager.removeStateListener(ragdoll, this);
+        }
+    }
 }
\ No newline at end of file
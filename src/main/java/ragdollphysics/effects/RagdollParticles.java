@@ -0,0 +1,283 @@
+package ragdollphysics.effects;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.math.MathUtils;
+import com.megacrit.cardcrawl.core.Settings;
+import com.megacrit.cardcrawl.helpers.ImageMaster;
+import ragdollphysics.ragdollutil.ImpactEvents;
+
+/**
+ * Pooled particle emitter for ragdoll VFX: explosion embers and smoke, and dust kicked up by
+ * ground impacts. Particles live in preallocated parallel arrays kept dense by swap-removal,
+ * so emitting, updating and drawing allocate nothing. All particles share the vfx atlas page
+ * and are drawn in one pass per blend mode from the room render.
+ *
+ * A global cap bounds the cost of chained deaths - emissions past it are dropped.
+ * Game thread only.
+ */
+public final class RagdollParticles {
+
+    // ================================
+    // CONFIGURATION
+    // ================================
+
+    public static final int MAX_PARTICLES = 512;
+
+    private static final byte EMBER = 0;
+    private static final byte SMOKE = 1;
+    private static final byte DUST = 2;
+
+    private static final float EMBER_GRAVITY = -150f;
+    private static final float SMOKE_BUOYANCY = 40f;
+    private static final float DUST_GRAVITY = -60f;
+    private static final float DRAG = 1.5f; // fraction of velocity lost per second
+
+    // Impact impulses (px/s) that throw the most dust
+    private static final float BODY_FULL_DUST_IMPULSE = 1700f;
+    private static final float DEBRIS_FULL_DUST_IMPULSE = 4000f;
+
+    // ================================
+    // PACKED STATE
+    // ================================
+
+    private static final byte[] type = new byte[MAX_PARTICLES];
+    private static final float[] x = new float[MAX_PARTICLES];
+    private static final float[] y = new float[MAX_PARTICLES];
+    private static final float[] velocityX = new float[MAX_PARTICLES];
+    private static final float[] velocityY = new float[MAX_PARTICLES];
+    private static final float[] age = new float[MAX_PARTICLES];
+    private static final float[] lifetime = new float[MAX_PARTICLES];
+    private static final float[] startScale = new float[MAX_PARTICLES];
+    private static final float[] endScale = new float[MAX_PARTICLES];
+    private static final float[] rotation = new float[MAX_PARTICLES];
+    private static final float[] spin = new float[MAX_PARTICLES];
+    private static final float[] red = new float[MAX_PARTICLES];
+    private static final float[] green = new float[MAX_PARTICLES];
+    private static final float[] blue = new float[MAX_PARTICLES];
+    private static final float[] startAlpha = new float[MAX_PARTICLES];
+    private static int count = 0;
+
+    private static final Color savedColor = new Color();
+
+    // Statistics
+    private static int peakCount = 0;
+    private static int droppedCount = 0;
+
+    private RagdollParticles() {
+    }
+
+    // ================================
+    // EMISSION
+    // ================================
+
+    /**
+     * Glowing embers scattered around a point
+     */
+    public static void emitEmbers(float centerX, float centerY, int amount, float spread) {
+        for (int n = 0; n < amount; n++) {
+            int i = allocate(EMBER);
+            if (i < 0) return;
+            x[i] = centerX + MathUtils.random(-spread, spread);
+            y[i] = centerY + MathUtils.random(-spread, spread);
+            velocityX[i] = MathUtils.random(-80f, 80f) * Settings.scale;
+            velocityY[i] = MathUtils.random(40f, 200f) * Settings.scale;
+            lifetime[i] = MathUtils.random(0.6f, 1.2f);
+            startScale[i] = MathUtils.random(0.4f, 0.8f);
+            endScale[i] = 0.1f;
+            spin[i] = 0f;
+            red[i] = 1f;
+            green[i] = MathUtils.random(0.4f, 0.8f);
+            blue[i] = 0.2f;
+            startAlpha[i] = 1f;
+        }
+    }
+
+    /**
+     * A burst of dark smoke, as left by an explosion
+     */
+    public static void emitSmokePuff(float centerX, float centerY) {
+        for (int n = 0; n < 10; n++) {
+            int i = allocate(SMOKE);
+            if (i < 0) return;
+            x[i] = centerX + MathUtils.random(-30f, 30f) * Settings.scale;
+            y[i] = centerY + MathUtils.random(-30f, 30f) * Settings.scale;
+            velocityX[i] = MathUtils.random(-60f, 60f) * Settings.scale;
+            velocityY[i] = MathUtils.random(10f, 80f) * Settings.scale;
+            lifetime[i] = MathUtils.random(1.0f, 1.6f);
+            startScale[i] = MathUtils.random(0.8f, 1.2f);
+            endScale[i] = MathUtils.random(2.0f, 2.8f);
+            spin[i] = MathUtils.random(-60f, 60f);
+            float shade = MathUtils.random(0.1f, 0.25f);
+            red[i] = shade;
+            green[i] = shade;
+            blue[i] = shade;
+            startAlpha[i] = 0.7f;
+        }
+    }
+
+    /**
+     * Dust thrown sideways from a ground impact, more of it for harder hits (intensity 0-1)
+     */
+    public static void emitDust(float impactX, float groundY, float intensity) {
+        intensity = MathUtils.clamp(intensity, 0f, 1f);
+        int amount = 2 + (int) (intensity * 6f);
+        for (int n = 0; n < amount; n++) {
+            int i = allocate(DUST);
+            if (i < 0) return;
+            x[i] = impactX + MathUtils.random(-20f, 20f) * Settings.scale;
+            y[i] = groundY;
+            velocityX[i] = MathUtils.random(-160f, 160f) * (0.5f + intensity) * Settings.scale;
+            velocityY[i] = MathUtils.random(10f, 60f) * (0.5f + intensity) * Settings.scale;
+            lifetime[i] = MathUtils.random(0.4f, 0.7f);
+            startScale[i] = MathUtils.random(0.3f, 0.5f);
+            endScale[i] = MathUtils.random(0.8f, 1.2f);
+            spin[i] = MathUtils.random(-90f, 90f);
+            red[i] = 0.6f;
+            green[i] = 0.55f;
+            blue[i] = 0.5f;
+            startAlpha[i] = 0.5f;
+        }
+    }
+
+    /** ImpactEvents subscriber: ground bounces throw dust, less of it for small debris */
+    public static final ImpactEvents.Listener IMPACT_DUST = (bodyId, source, surface, impactX, impactY, impulse) ->
+            emitDust(impactX, impactY, impulse / (source == ImpactEvents.SOURCE_BODY
+                    ? BODY_FULL_DUST_IMPULSE : DEBRIS_FULL_DUST_IMPULSE));
+
+    /** Claim a slot, or -1 when the global cap is reached */
+    private static int allocate(byte kind) {
+        if (count >= MAX_PARTICLES) {
+            droppedCount++;
+            return -1;
+        }
+        int i = count++;
+        peakCount = Math.max(peakCount, count);
+        type[i] = kind;
+        age[i] = 0f;
+        rotation[i] = MathUtils.random(360f);
+        return i;
+    }
+
+    // ================================
+    // UPDATE AND RENDER
+    // ================================
+
+    /**
+     * Advance every particle - once per frame
+     */
+    public static void update(float deltaTime) {
+        float drag = Math.max(0f, 1f - DRAG * deltaTime);
+
+        for (int i = count - 1; i >= 0; i--) {
+            age[i] += deltaTime;
+            if (age[i] >= lifetime[i]) {
+                remove(i);
+                continue;
+            }
+
+            float acceleration = type[i] == EMBER ? EMBER_GRAVITY
+                    : type[i] == SMOKE ? SMOKE_BUOYANCY : DUST_GRAVITY;
+            velocityY[i] += acceleration * Settings.scale * deltaTime;
+            velocityX[i] *= drag;
+            velocityY[i] *= drag;
+            x[i] += velocityX[i] * deltaTime;
+            y[i] += velocityY[i] * deltaTime;
+            rotation[i] += spin[i] * deltaTime;
+        }
+    }
+
+    /** Move the last particle into slot i */
+    private static void remove(int i) {
+        int last = --count;
+        if (i == last) return;
+        type[i] = type[last];
+        x[i] = x[last];
+        y[i] = y[last];
+        velocityX[i] = velocityX[last];
+        velocityY[i] = velocityY[last];
+        age[i] = age[last];
+        lifetime[i] = lifetime[last];
+        startScale[i] = startScale[last];
+        endScale[i] = endScale[last];
+        rotation[i] = rotation[last];
+        spin[i] = spin[last];
+        red[i] = red[last];
+        green[i] = green[last];
+        blue[i] = blue[last];
+        startAlpha[i] = startAlpha[last];
+    }
+
+    /**
+     * Draw all particles: smoke and dust with normal blending, then embers additively
+     */
+    public static void render(SpriteBatch sb) {
+        if (count == 0) {
+            return;
+        }
+
+        savedColor.set(sb.getColor());
+        drawPass(sb, false);
+        sb.setBlendFunction(GL20.GL_SRC_ALPHA, GL20.GL_ONE);
+        drawPass(sb, true);
+        sb.setBlendFunction(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+        sb.setColor(savedColor);
+    }
+
+    private static void drawPass(SpriteBatch sb, boolean embers) {
+        for (int i = 0; i < count; i++) {
+            if ((type[i] == EMBER) != embers) {
+                continue;
+            }
+
+            TextureAtlas.AtlasRegion region = regionFor(type[i]);
+            float progress = age[i] / lifetime[i];
+            float scale = (startScale[i] + (endScale[i] - startScale[i]) * progress) * Settings.scale;
+            float width = region.packedWidth;
+            float height = region.packedHeight;
+
+            sb.setColor(red[i], green[i], blue[i], startAlpha[i] * (1f - progress));
+            sb.draw(region, x[i] - width / 2f, y[i] - height / 2f, width / 2f, height / 2f,
+                    width, height, scale, scale, rotation[i]);
+        }
+    }
+
+    private static TextureAtlas.AtlasRegion regionFor(byte kind) {
+        switch (kind) {
+            case EMBER:
+                return ImageMaster.GLOW_SPARK_2;
+            case SMOKE:
+                return ImageMaster.EXHAUST_L;
+            default:
+                return ImageMaster.EXHAUST_S;
+        }
+    }
+
+    // ================================
+    // STATISTICS
+    // ================================
+
+    public static ParticleStats getStats() {
+        return new ParticleStats(count, peakCount, droppedCount);
+    }
+
+    public static class ParticleStats {
+        public final int live;
+        public final int peak;
+        public final int dropped;
+
+        public ParticleStats(int live, int peak, int dropped) {
+            this.live = live;
+            this.peak = peak;
+            this.dropped = dropped;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("ParticleStats{live=%d/%d, peak=%d, dropped=%d}",
+                    live, MAX_PARTICLES, peak, dropped);
+        }
+    }
+}
@@ -5,11 +5,8 @@ import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.math.MathUtils;
 import com.megacrit.cardcrawl.core.CardCrawlGame;
 import com.megacrit.cardcrawl.core.Settings;
-import com.megacrit.cardcrawl.dungeons.AbstractDungeon;
 import com.megacrit.cardcrawl.monsters.AbstractMonster;
 import com.megacrit.cardcrawl.vfx.AbstractGameEffect;
-import com.megacrit.cardcrawl.vfx.DarkSmokePuffEffect;
-import com.megacrit.cardcrawl.vfx.combat.SmokingEmberEffect;
 import ragdollphysics.ragdollutil.MultiBodyRagdoll;
 
 // OPTION 1: Create a tracking explosion effect that follows the Exploder
@@ -39,12 +36,7 @@ public class TrackingExplosionEffect extends AbstractGameEffect {
         if (timer < EXPLOSION_DURATION && ragdoll != null) {
             // Add trailing smoke/ember effects at current position
             if (MathUtils.random() < 0.3f) { // 30% chance per frame
-                float x = ragdoll.getCenterX();
-                float y = ragdoll.getCenterY();
-                AbstractDungeon.effectsQueue.add(new SmokingEmberEffect(
-                        x + MathUtils.random(-30f, 30f) * Settings.scale,
-                        y + MathUtils.random(-30f, 30f) * Settings.scale
-                ));
+                RagdollParticles.emitEmbers(ragdoll.getCenterX(), ragdoll.getCenterY(), 1, 30f * Settings.scale);
             }
         }
 
@@ -57,14 +49,9 @@ public class TrackingExplosionEffect extends AbstractGameEffect {
         float x = ragdoll.getCenterX();
         float y = ragdoll.getCenterY();
 
-        AbstractDungeon.effectsQueue.add(new DarkSmokePuffEffect(x, y));
-
-        for(int i = 0; i < 12; ++i) {
-            AbstractDungeon.effectsQueue.add(new SmokingEmberEffect(
-                    x + MathUtils.random(-50.0f, 50.0f) * Settings.scale,
-                    y + MathUtils.random(-50.0f, 50.0f) * Settings.scale
-            ));
-        }
+        // Pooled particles instead of a smoke puff and 12 ember effects through the effects queue
+        RagdollParticles.emitSmokePuff(x, y);
+        RagdollParticles.emitEmbers(x, y, 12, 50.0f * Settings.scale);
 
         CardCrawlGame.sound.playA("ATTACK_FIRE", MathUtils.random(-0.2f, -0.1f));
     }
@@ -0,0 +1,20 @@
+package ragdollphysics.patches;
+
+import com.evacipated.cardcrawl.modthespire.lib.SpireField;
+import com.evacipated.cardcrawl.modthespire.lib.SpirePatch;
+import com.megacrit.cardcrawl.core.AbstractCreature;
+import ragdollphysics.ragdollutil.OverkillTracker;
+
+/**
+ * Per-creature state stored directly on the creature so hot patches can skip
+ * map lookups for the common case of a creature without a ragdoll.
+ */
+@SpirePatch(clz = AbstractCreature.class, method = SpirePatch.CLASS)
+public class RagdollFields {
+    // Set by RagdollManager while the creature has an active ragdoll
+    public static SpireField<Boolean> hasRagdoll = new SpireField<>(() -> false);
+
+    // Damage bookkeeping for overkill-scaled launches, reused for every hit
+    public static SpireField<OverkillTracker.OverkillState> overkillState =
+            new SpireField<>(OverkillTracker.OverkillState::new);
+}
@@ -2,6 +2,7 @@ package ragdollphysics.patches;
 
 import basemod.BaseMod;
 import basemod.abstracts.CustomMonster;
+import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.evacipated.cardcrawl.modthespire.lib.SpirePatch;
 import com.evacipated.cardcrawl.modthespire.lib.SpirePostfixPatch;
@@ -12,13 +13,17 @@ import com.megacrit.cardcrawl.characters.AbstractPlayer;
 import com.megacrit.cardcrawl.core.AbstractCreature;
 import com.megacrit.cardcrawl.dungeons.AbstractDungeon;
 import com.megacrit.cardcrawl.monsters.AbstractMonster;
-import com.megacrit.cardcrawl.screens.DeathScreen;
+import com.megacrit.cardcrawl.rooms.AbstractRoom;
 
 import ragdollphysics.RagdollPhysics;
 import ragdollphysics.actions.PlayerRagdollWaitAction;
 import ragdollphysics.effects.PlayerRagdollVFX;
+import ragdollphysics.effects.RagdollParticles;
+import ragdollphysics.ragdollutil.DebrisAtlas;
+import ragdollphysics.ragdollutil.ImpactEvents;
 import ragdollphysics.ragdollutil.OverkillTracker;
 import ragdollphysics.ragdollutil.RagdollManager;
+import ragdollphysics.ragdollutil.RagdollTemplateCache;
 
 import java.util.Arrays;
 import java.util.HashSet;
@@ -48,51 +53,58 @@ public class RagdollPatches {
             "Hraesvelgr"
     ));
 
-    private static boolean isBlacklisted(AbstractMonster monster) {
-        // Check specific ID blacklist
-        if (RAGDOLL_BLACKLIST.contains(monster.id)) {
-            return true;
+    // Package blacklist verdicts, computed once per creature class
+    private static final ClassValue<Boolean> MONSTER_CLASS_BLOCKED = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            return isPackageBlocked(type, BLOCKED_MONSTER_PACKAGES);
+        }
+    };
+
+    private static final ClassValue<Boolean> PLAYER_CLASS_BLOCKED = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            return PLAYER_RAGDOLL_BLACKLIST.contains(type.getSimpleName())
+                    || isPackageBlocked(type, BLOCKED_MOD_PACKAGES);
         }
+    };
 
-        // Check if monster is from a blocked mod package
-        String packageName = monster.getClass().getPackage() != null ?
-                monster.getClass().getPackage().getName() : "";
-        for (String blockedPackage : BLOCKED_MONSTER_PACKAGES) {
+    private static boolean isPackageBlocked(Class<?> type, Set<String> blockedPackages) {
+        String packageName = type.getPackage() != null ? type.getPackage().getName() : "";
+        for (String blockedPackage : blockedPackages) {
             if (packageName.contains(blockedPackage)) {
                 return true;
             }
         }
-
         return false;
     }
 
+    private static boolean isBlacklisted(AbstractMonster monster) {
+        // Check specific ID blacklist, then the cached package verdict
+        return RAGDOLL_BLACKLIST.contains(monster.id) || MONSTER_CLASS_BLOCKED.get(monster.getClass());
+    }
+
     private static boolean isPlayerBlacklisted(AbstractPlayer player) {
         // Check if player ragdolls are disabled globally
         if (!RagdollPhysics.enablePlayerRagdolls) {
             return true;
         }
+        return PLAYER_CLASS_BLOCKED.get(player.getClass());
+    }
 
-        // Check individual player blacklist first
-        if (PLAYER_RAGDOLL_BLACKLIST.contains(player.getClass().getSimpleName())) {
-            return true;
-        }
-
-        // Check if player is from a blocked mod package
-        String packageName = player.getClass().getPackage() != null ?
-                player.getClass().getPackage().getName() : "";
-        for (String blockedPackage : BLOCKED_MOD_PACKAGES) {
-            if (packageName.contains(blockedPackage)) {
-                return true;
-            }
-        }
-
-        return false;
+    /** Single field read - false for every creature that is not currently ragdolling */
+    private static boolean hasRagdoll(AbstractCreature creature) {
+        return RagdollFields.hasRagdoll.get(creature);
     }
 
     @SpirePatch(clz = AbstractMonster.class, method = "updateDeathAnimation")
     public static class DeathAnimationPatch {
         @SpirePrefixPatch
         public static SpireReturn<Void> prefix(AbstractMonster __instance) {
+            // Living monsters never need the manager
+            if (!__instance.isDying) {
+                return SpireReturn.Continue();
+            }
             // Skip ragdoll physics for blacklisted monsters
             if (isBlacklisted(__instance)) {
                 return SpireReturn.Continue();
@@ -101,12 +113,55 @@ public class RagdollPatches {
         }
     }
 
+    @SpirePatch(clz = AbstractMonster.class, method = "init")
+    public static class TemplatePrewarmPatch {
+        @SpirePostfixPatch
+        public static void postfix(AbstractMonster __instance) {
+            // Build the static ragdoll template in the background while the monster is alive
+            if (!isBlacklisted(__instance)) {
+                RagdollTemplateCache.prewarm(__instance);
+            }
+        }
+    }
+
+    @SpirePatch(clz = AbstractDungeon.class, method = "update")
+    public static class DungeonUpdatePatch {
+        @SpirePostfixPatch
+        public static void postfix(AbstractDungeon __instance) {
+            // The one place ragdolls are stepped - covers combat and the death screen alike
+            ragdollManager.tick();
+            // Impacts recorded by this frame's physics steps, handed to subscribers within their quotas
+            ImpactEvents.drain();
+            RagdollParticles.update(Gdx.graphics.getDeltaTime());
+            // Runs before rendering starts, so shared debris pages can be drawn into
+            DebrisAtlas.process();
+        }
+    }
+
+    @SpirePatch(clz = AbstractDungeon.class, method = "reset")
+    public static class DungeonResetPatch {
+        @SpirePostfixPatch
+        public static void postfix() {
+            // Leaving a run - the next one starts without last run's bodies or its dead player
+            ragdollManager.cleanupAll();
+        }
+    }
+
+    @SpirePatch(clz = AbstractRoom.class, method = "render")
+    public static class ParticleRenderPatch {
+        @SpirePostfixPatch
+        public static void postfix(AbstractRoom __instance, SpriteBatch sb) {
+            // All ragdoll particles in one pass, over the creatures
+            RagdollParticles.render(sb);
+        }
+    }
+
     @SpirePatch(clz = AbstractMonster.class, method = "render")
     public static class RenderPatch {
         @SpirePrefixPatch
         public static SpireReturn<Void> prefix(AbstractMonster __instance, SpriteBatch sb) {
-            // Skip ragdoll rendering for blacklisted monsters
-            if (isBlacklisted(__instance)) {
+            // Skip ragdoll rendering for monsters without a ragdoll or blacklisted monsters
+            if (!hasRagdoll(__instance) || isBlacklisted(__instance)) {
                 return SpireReturn.Continue();
             }
             return ragdollManager.handleRender(__instance, sb);
@@ -117,8 +172,8 @@ public class RagdollPatches {
     public static class CustomMonsterRenderPatch {
         @SpirePrefixPatch
         public static SpireReturn<Void> prefix(AbstractMonster __instance, SpriteBatch sb) {
-            // Skip ragdoll rendering for blacklisted monsters
-            if (isBlacklisted(__instance)) {
+            // Skip ragdoll rendering for monsters without a ragdoll or blacklisted monsters
+            if (!hasRagdoll(__instance) || isBlacklisted(__instance)) {
                 return SpireReturn.Continue();
             }
             return ragdollManager.handleRender(__instance, sb);
@@ -183,7 +238,7 @@ public class RagdollPatches {
     public static class PlayerRenderPatch {
         @SpirePrefixPatch
         public static SpireReturn<Void> prefix(AbstractPlayer __instance, SpriteBatch sb) {
-            if (isPlayerBlacklisted(__instance)) {
+            if (!hasRagdoll(__instance) || isPlayerBlacklisted(__instance)) {
                 return SpireReturn.Continue();
             }
             return ragdollManager.handlePlayerRender(__instance, sb);
@@ -194,32 +249,19 @@ public class RagdollPatches {
     public static class PlayerImageRenderPatch {
         @SpirePrefixPatch
         public static SpireReturn<Void> prefix(AbstractPlayer __instance, SpriteBatch sb) {
-            if (isPlayerBlacklisted(__instance)) {
+            if (!hasRagdoll(__instance) || isPlayerBlacklisted(__instance)) {
                 return SpireReturn.Continue();
             }
             return ragdollManager.handlePlayerRenderImage(__instance, sb);
         }
     }
 
-    @SpirePatch(clz = AbstractPlayer.class, method = "update")
-    public static class PlayerUpdatePatch {
+    @SpirePatch(clz = AbstractPlayer.class, method = "preBattlePrep")
+    public static class PlayerTemplatePrewarmPatch {
         @SpirePostfixPatch
         public static void postfix(AbstractPlayer __instance) {
-            if (ragdollManager.hasActivePlayerRagdoll(__instance)) {
-                // Update ragdoll physics every frame while dead
-                ragdollManager.updatePlayerRagdollLogic(__instance);
-            }
-        }
-    }
-
-    @SpirePatch(clz = DeathScreen.class, method = "update")
-    public static class DeathScreenUpdatePatch {
-        @SpirePostfixPatch
-        public static void postfix(DeathScreen __instance) {
-            // Force player ragdoll updates even during death screen
-            AbstractPlayer player = AbstractDungeon.player;
-            if (player != null && player.isDead && ragdollManager.hasActivePlayerRagdoll(player)) {
-                ragdollManager.updatePlayerRagdollLogic(player);
+            if (!isPlayerBlacklisted(__instance)) {
+                RagdollTemplateCache.prewarm(__instance);
             }
         }
     }
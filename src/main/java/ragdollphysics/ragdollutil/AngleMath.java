@@ -0,0 +1,46 @@
+package ragdollphysics.ragdollutil;
+
+import com.badlogic.gdx.math.MathUtils;
+
+/**
+ * Shared angle helpers for rotations held in degrees.
+ * Sine and cosine come from libGDX's precomputed lookup table (MathUtils.sinDeg/cosDeg),
+ * the same one SpriteBatch uses, so physics and render transforms agree.
+ *
+ * Body rotations are kept normalised to [0, 360) once per physics step, so consumers can
+ * use them directly instead of each repeating a % 360 normalisation.
+ */
+public final class AngleMath {
+
+    private AngleMath() {
+    }
+
+    /**
+     * Wrap an angle into [0, 360). Angles already in range are returned unchanged.
+     */
+    public static float normalize(float degrees) {
+        if (degrees >= 0f && degrees < 360f) {
+            return degrees;
+        }
+        float wrapped = degrees - 360f * MathUtils.floor(degrees / 360f);
+        return wrapped >= 360f ? 0f : wrapped;
+    }
+
+    /**
+     * Wrap an angle difference into [-180, 180]
+     */
+    public static float wrapDelta(float degrees) {
+        if (degrees > 180f || degrees < -180f) {
+            degrees = normalize(degrees + 180f) - 180f;
+        }
+        return degrees;
+    }
+
+    public static float sinDeg(float degrees) {
+        return MathUtils.sinDeg(degrees);
+    }
+
+    public static float cosDeg(float degrees) {
+        return MathUtils.cosDeg(degrees);
+    }
+}
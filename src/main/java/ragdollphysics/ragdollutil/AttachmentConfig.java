@@ -11,7 +11,6 @@ import com.megacrit.cardcrawl.monsters.exordium.*;
 
 import java.util.HashMap;
 import java.util.Map;
-import java.util.Random;
 
 /**
  * Configuration class for managing monster attachment behaviors in ragdoll physics.
@@ -25,12 +24,6 @@ public class AttachmentConfig {
 
     private static final boolean FORCE_DISMEMBERMENT = false; // Set to true for 100% dismemberment chance (testing)
 
-    // ================================
-    // RANDOM GENERATOR
-    // ================================
-
-    private static final Random random = new Random();
-
     // ================================
     // GLOBAL ATTACHMENTS
     // ================================
@@ -274,26 +267,43 @@ public class AttachmentConfig {
     }
 
     /**
-     * Enhanced shouldDetachAttachment that includes All Shatter mode for complete dissolution
+     * Enhanced shouldDetachAttachment that includes All Shatter mode for complete dissolution.
+     * Dismemberment rolls draw from the ragdoll's own random stream.
      */
-    public static boolean shouldDetachAttachment(String entityClassName, String attachmentName, float overkillDamage) {
-        // Check if All Shatter mode is enabled - everything becomes an attachment
-        if (ragdollphysics.RagdollPhysics.enableAllShatter) {
-            return shouldShatterAttachment(attachmentName);
-        }
+    public static boolean shouldDetachAttachment(String entityClassName, String attachmentName, float overkillDamage,
+                                                 RagdollRandom random) {
+        return resolveDetachRule(classifyAttachment(entityClassName, attachmentName), attachmentName,
+                overkillDamage, random);
+    }
+
+    /**
+     * How an attachment behaves at death in normal mode
+     */
+    public enum DetachRule {
+        /** Always detaches (Haberdashery, global and monster-specific attachments) */
+        ALWAYS,
+        /** Detaches on a successful dismemberment roll */
+        DISMEMBERABLE,
+        /** Stays on the skeleton */
+        NEVER
+    }
 
-        // Original logic for normal mode
+    /**
+     * Classify an attachment against the static config tables. Depends only on the names,
+     * so the result can be computed ahead of time (see RagdollTemplate).
+     */
+    public static DetachRule classifyAttachment(String entityClassName, String attachmentName) {
         String attachmentLower = attachmentName.toLowerCase();
 
         // Check for Haberdashery attachments first
         if (attachmentLower.startsWith("haberdashery")) {
-            return true;
+            return DetachRule.ALWAYS;
         }
 
         // Check global attachments
         for (String globalAttachment : GLOBAL_ATTACHMENTS) {
             if (attachmentLower.contains(globalAttachment.toLowerCase())) {
-                return true;
+                return DetachRule.ALWAYS;
             }
         }
 
@@ -302,12 +312,40 @@ public class AttachmentConfig {
         for (String attachment : attachments) {
             String attachmentTarget = attachment.toLowerCase();
             if (attachmentLower.equals(attachmentTarget) || attachmentLower.contains(attachmentTarget)) {
-                return true;
+                return DetachRule.ALWAYS;
             }
         }
 
-        // Check dismemberment
-        return shouldDismember(entityClassName, attachmentName, overkillDamage);
+        // Check dismemberable parts
+        for (String part : getDismemberablePartsForMonster(entityClassName)) {
+            String partLower = part.toLowerCase();
+            if (attachmentLower.equals(partLower) || attachmentLower.contains(partLower)) {
+                return DetachRule.DISMEMBERABLE;
+            }
+        }
+
+        return DetachRule.NEVER;
+    }
+
+    /**
+     * Turn a precomputed rule into the detach decision for this death.
+     * All Shatter mode overrides the rule; dismemberable parts roll on the ragdoll's random stream.
+     */
+    public static boolean resolveDetachRule(DetachRule rule, String attachmentName, float overkillDamage,
+                                            RagdollRandom random) {
+        // Check if All Shatter mode is enabled - everything becomes an attachment
+        if (ragdollphysics.RagdollPhysics.enableAllShatter) {
+            return shouldShatterAttachment(attachmentName);
+        }
+
+        switch (rule) {
+            case ALWAYS:
+                return true;
+            case DISMEMBERABLE:
+                return calculateDismembermentChance(overkillDamage, random);
+            default:
+                return false;
+        }
     }
 
     /**
@@ -379,31 +417,12 @@ public class AttachmentConfig {
     // PRIVATE HELPER METHODS
     // ================================
 
-    /**
-     * Calculate and roll for dismemberment based on overkill damage
-     */
-    private static boolean shouldDismember(String monsterName, String attachmentName, float overkillDamage) {
-        String[] dismemberableParts = getDismemberablePartsForMonster(monsterName);
-        String attachmentLower = attachmentName.toLowerCase();
-
-        // Check if this attachment is dismemberable for this monster
-        for (String part : dismemberableParts) {
-            String partLower = part.toLowerCase();
-
-            if (attachmentLower.equals(partLower) || attachmentLower.contains(partLower)) {
-                return calculateDismembermentChance(overkillDamage);
-            }
-        }
-
-        return false;
-    }
-
     /**
      * Calculate dismemberment chance based on overkill damage
      * - Testing mode: 100% chance
      * - Normal mode: 2% at 25 overkill, scaling to 50% at 50+ overkill
      */
-    private static boolean calculateDismembermentChance(float overkillDamage) {
+    private static boolean calculateDismembermentChance(float overkillDamage, RagdollRandom random) {
         if (FORCE_DISMEMBERMENT) {
             return true;
         }
@@ -414,6 +433,6 @@ public class AttachmentConfig {
 
         // Linear scaling: 2% at 25 damage, 50% at 50+ damage
         float chance = Math.min(2f + (overkillDamage - 25f) * (48f / 25f), 50f) / 100f;
-        return random.nextFloat() < chance;
+        return random.random() < chance;
     }
 }
\ No newline at end of file
@@ -1,7 +1,6 @@
 package ragdollphysics.ragdollutil;
 
 import basemod.BaseMod;
-import com.badlogic.gdx.math.MathUtils;
 import com.esotericsoftware.spine.Bone;
 import com.esotericsoftware.spine.attachments.Attachment;
 import com.esotericsoftware.spine.attachments.MeshAttachment;
@@ -22,29 +21,35 @@ import static ragdollphysics.RagdollPhysics.enableZeroGravity;
 public class AttachmentPhysics {
 
     // ================================
-    // PHYSICS CONSTANTS
+    // PHYSICS CONSTANTS (shared with DebrisVerletIntegrator)
     // ================================
 
-    private static final float ATTACHMENT_BOUNCE_THRESHOLD = 150f;
-    private static final float GRAVITY = -1200f * Settings.scale;
-    private static final float GROUND_BOUNCE_DAMPING = 0.4f;
-    private static final float GROUND_FRICTION = 0.85f;
-    private static final float GROUND_ANGULAR_DAMPING = 0.6f;
-    private static final float CEILING_BOUNCE_DAMPING = 0.5f;
-    private static final float WALL_BOUNCE_DAMPING = 0.7f;
-    private static final float AIR_RESISTANCE = 0.999f;
-    private static final float GROUND_AIR_RESISTANCE = 0.95f;
-    private static final float GROUND_ANGULAR_RESISTANCE = 0.7f;
-    private static final float CEILING_ANGULAR_RESISTANCE = 0.8f;
+    static final float ATTACHMENT_BOUNCE_THRESHOLD = 150f;
+    static final float GRAVITY = -1200f * Settings.scale;
+    static final float GROUND_BOUNCE_DAMPING = 0.4f;
+    static final float GROUND_FRICTION = 0.85f;
+    static final float GROUND_ANGULAR_DAMPING = 0.6f;
+    static final float CEILING_BOUNCE_DAMPING = 0.5f;
+    static final float WALL_BOUNCE_DAMPING = 0.7f;
+    static final float AIR_RESISTANCE = 0.999f;
+    static final float GROUND_AIR_RESISTANCE = 0.95f;
+    static final float GROUND_ANGULAR_RESISTANCE = 0.7f;
+    static final float CEILING_ANGULAR_RESISTANCE = 0.8f;
     private static final float CHILD_WOBBLE_INTENSITY = 0.05f;
 
+    // Per-step damping handles, shared with DebrisVerletIntegrator
+    static final DampingTable.Coefficient AIR_STEP_DAMPING = DampingTable.of(AIR_RESISTANCE);
+    static final DampingTable.Coefficient GROUND_LINEAR_STEP_DAMPING = DampingTable.of(GROUND_AIR_RESISTANCE);
+    static final DampingTable.Coefficient GROUND_ANGULAR_STEP_DAMPING = DampingTable.of(GROUND_ANGULAR_RESISTANCE);
+    static final DampingTable.Coefficient CEILING_ANGULAR_STEP_DAMPING = DampingTable.of(CEILING_ANGULAR_RESISTANCE);
+
     // ================================
     // WORLD BOUNDARIES
     // ================================
 
-    private static final float RIGHT_WALL_X = 1910f * Settings.scale;
-    private static final float LEFT_WALL_X = 10f * Settings.scale;
-    private static final float CEILING_Y = 1100f * Settings.scale;
+    static final float RIGHT_WALL_X = 1910f * Settings.scale;
+    static final float LEFT_WALL_X = 10f * Settings.scale;
+    static final float CEILING_Y = 1100f * Settings.scale;
 
 
     // ================================
@@ -66,6 +71,11 @@ public class AttachmentPhysics {
     public final float originalScaleY;
     private final String attachmentId;
     private final String attachmentName;
+    private final RagdollRandom random;
+    private final int impactId = ImpactEvents.nextBodyId();
+
+    // Deformed geometry captured at detach time (MeshAttachments only)
+    DetachedMeshBuffer meshBuffer;
 
     // ================================
     // PARENT-CHILD RELATIONSHIPS
@@ -87,16 +97,18 @@ public class AttachmentPhysics {
      * Create a parent (independent) attachment with full physics simulation
      */
     public AttachmentPhysics(float startX, float startY, float groundLevel, Bone bone,
-                             Attachment attachment, String attachmentName) {
-        this(startX, startY, groundLevel, bone, attachment, attachmentName, null);
+                             Attachment attachment, String attachmentName, RagdollRandom random) {
+        this(startX, startY, groundLevel, bone, attachment, attachmentName, null, random);
     }
 
     /**
      * Enhanced AttachmentPhysics constructor with smart rotation handling
      */
     public AttachmentPhysics(float startX, float startY, float groundLevel, Bone bone,
-                             Attachment attachment, String attachmentName, AttachmentPhysics parent) {
+                             Attachment attachment, String attachmentName, AttachmentPhysics parent,
+                             RagdollRandom random) {
         // Initialize basic properties
+        this.random = random;
         this.x = startX;
         this.y = startY;
         this.groundY = groundLevel;
@@ -220,8 +232,8 @@ public class AttachmentPhysics {
      */
     private void updateAsParent(float deltaTime) {
         applyGravity(deltaTime);
-        updatePosition(deltaTime);
         updateRotation(deltaTime);
+        sweepPosition(deltaTime);
         handleCollisions(deltaTime);
         applyAirResistance(deltaTime);
     }
@@ -236,22 +248,55 @@ public class AttachmentPhysics {
     }
 
     /**
-     * Update position based on current velocity
+     * Move by the current velocity, stopping at each world plane crossed on the way to respond
+     * there and continuing with the new velocity for the rest of the step
      */
-    private void updatePosition(float deltaTime) {
-        x += velocityX * deltaTime;
-        y += velocityY * deltaTime;
+    private void sweepPosition(float deltaTime) {
+        float remaining = deltaTime;
+        for (int contact = 0; contact < SweptCollision.MAX_CONTACTS_PER_STEP; contact++) {
+            float dx = velocityX * remaining;
+            float dy = velocityY * remaining;
+            int plane = SweptCollision.firstContact(x, y, dx, dy, groundY);
+            if (plane == SweptCollision.NONE) {
+                x += dx;
+                y += dy;
+                return;
+            }
+
+            float t = SweptCollision.fraction(plane, x, y, dx, dy, groundY);
+            x += dx * t;
+            y += dy * t;
+            remaining *= 1f - t;
+            respondToContact(plane, deltaTime);
+        }
+    }
+
+    private void respondToContact(int plane, float deltaTime) {
+        switch (plane) {
+            case SweptCollision.GROUND:
+                respondToGround(deltaTime);
+                break;
+            case SweptCollision.CEILING:
+                respondToCeiling(deltaTime);
+                break;
+            case SweptCollision.RIGHT_WALL:
+                respondToWall(RIGHT_WALL_X);
+                break;
+            case SweptCollision.LEFT_WALL:
+                respondToWall(LEFT_WALL_X);
+                break;
+        }
     }
 
     /**
      * Update rotation based on angular velocity
      */
     private void updateRotation(float deltaTime) {
-        rotation += angularVelocity * deltaTime;
+        rotation = AngleMath.normalize(rotation + angularVelocity * deltaTime);
     }
 
     /**
-     * Handle collisions with world boundaries
+     * Handle collisions with world boundaries for bodies that started the step outside them
      */
     private void handleCollisions(float deltaTime) {
         handleGroundCollision(deltaTime);
@@ -264,19 +309,25 @@ public class AttachmentPhysics {
      */
     private void handleGroundCollision(float deltaTime) {
         if (y < groundY && velocityY < 0) {
-            y = groundY;
-
-            if (Math.abs(velocityY) > ATTACHMENT_BOUNCE_THRESHOLD) {
-                // High energy bounce
-                velocityY *= -GROUND_BOUNCE_DAMPING;
-                velocityX *= GROUND_FRICTION;
-                angularVelocity *= GROUND_ANGULAR_DAMPING;
-            } else {
-                // Low energy settling
-                velocityY = 0f;
-                velocityX *= (float) Math.pow(GROUND_AIR_RESISTANCE, deltaTime * 60f);
-                angularVelocity *= (float) Math.pow(GROUND_ANGULAR_RESISTANCE, deltaTime * 60f);
-            }
+            respondToGround(deltaTime);
+        }
+    }
+
+    private void respondToGround(float deltaTime) {
+        y = groundY;
+
+        if (Math.abs(velocityY) > ATTACHMENT_BOUNCE_THRESHOLD) {
+            // High energy bounce
+            ImpactEvents.push(impactId, ImpactEvents.SOURCE_DEBRIS, ImpactEvents.GROUND, x, y,
+                    Math.abs(velocityY) * (1f + GROUND_BOUNCE_DAMPING));
+            velocityY *= -GROUND_BOUNCE_DAMPING;
+            velocityX *= GROUND_FRICTION;
+            angularVelocity *= GROUND_ANGULAR_DAMPING;
+        } else {
+            // Low energy settling
+            velocityY = 0f;
+            velocityX *= GROUND_LINEAR_STEP_DAMPING.at(deltaTime);
+            angularVelocity *= GROUND_ANGULAR_STEP_DAMPING.at(deltaTime);
         }
     }
 
@@ -285,17 +336,23 @@ public class AttachmentPhysics {
      */
     private void handleCeilingCollision(float deltaTime) {
         if (y > CEILING_Y && velocityY > 0) {
-            y = CEILING_Y;
-
-            if (Math.abs(velocityY) > ATTACHMENT_BOUNCE_THRESHOLD) {
-                velocityY *= -CEILING_BOUNCE_DAMPING;
-                velocityX *= GROUND_FRICTION;
-                angularVelocity = MathUtils.random(-450f, 450f);
-            } else {
-                velocityY = 0f;
-                velocityX *= (float) Math.pow(GROUND_AIR_RESISTANCE, deltaTime * 60f);
-                angularVelocity *= (float) Math.pow(CEILING_ANGULAR_RESISTANCE, deltaTime * 60f);
-            }
+            respondToCeiling(deltaTime);
+        }
+    }
+
+    private void respondToCeiling(float deltaTime) {
+        y = CEILING_Y;
+
+        if (Math.abs(velocityY) > ATTACHMENT_BOUNCE_THRESHOLD) {
+            ImpactEvents.push(impactId, ImpactEvents.SOURCE_DEBRIS, ImpactEvents.CEILING, x, y,
+                    Math.abs(velocityY) * (1f + CEILING_BOUNCE_DAMPING));
+            velocityY *= -CEILING_BOUNCE_DAMPING;
+            velocityX *= GROUND_FRICTION;
+            angularVelocity = random.random(-450f, 450f);
+        } else {
+            velocityY = 0f;
+            velocityX *= GROUND_LINEAR_STEP_DAMPING.at(deltaTime);
+            angularVelocity *= CEILING_ANGULAR_STEP_DAMPING.at(deltaTime);
         }
     }
 
@@ -304,25 +361,30 @@ public class AttachmentPhysics {
      */
     private void handleWallCollisions() {
         if (x > RIGHT_WALL_X && velocityX > 0) {
-            x = RIGHT_WALL_X;
-            velocityX *= -WALL_BOUNCE_DAMPING;
-            angularVelocity = MathUtils.random(-360f, 360f);
+            respondToWall(RIGHT_WALL_X);
         }
 
         if (x < LEFT_WALL_X && velocityX < 0) {
-            x = LEFT_WALL_X;
-            velocityX *= -WALL_BOUNCE_DAMPING;
-            angularVelocity = MathUtils.random(-360f, 360f);
+            respondToWall(LEFT_WALL_X);
         }
     }
 
+    private void respondToWall(float wallX) {
+        x = wallX;
+        ImpactEvents.push(impactId, ImpactEvents.SOURCE_DEBRIS, ImpactEvents.WALL, x, y,
+                Math.abs(velocityX) * (1f + WALL_BOUNCE_DAMPING));
+        velocityX *= -WALL_BOUNCE_DAMPING;
+        angularVelocity = random.random(-360f, 360f);
+    }
+
     /**
      * Apply air resistance to slow down movement over time
      */
     private void applyAirResistance(float deltaTime) {
         if (y > groundY) {  // Only apply air resistance when not on ground
-            velocityX *= (float) Math.pow(AIR_RESISTANCE, deltaTime * 60f);
-            angularVelocity *= (float) Math.pow(AIR_RESISTANCE, deltaTime * 60f);
+            float airDamping = AIR_STEP_DAMPING.at(deltaTime);
+            velocityX *= airDamping;
+            angularVelocity *= airDamping;
         }
     }
 
@@ -341,9 +403,8 @@ public class AttachmentPhysics {
      * Calculate position based on parent's current state using rotation matrix
      */
     private void updateRelativePosition() {
-        float parentRotRad = (float) Math.toRadians(parentAttachment.rotation);
-        float cosRot = (float) Math.cos(parentRotRad);
-        float sinRot = (float) Math.sin(parentRotRad);
+        float cosRot = AngleMath.cosDeg(parentAttachment.rotation);
+        float sinRot = AngleMath.sinDeg(parentAttachment.rotation);
 
         // Apply rotation matrix to relative position
         this.x = parentAttachment.x + (relativeX * cosRot - relativeY * sinRot);
@@ -364,7 +425,14 @@ public class AttachmentPhysics {
      * Add small random wobble for more organic child movement
      */
     private void addNaturalWobble() {
-        this.rotation += MathUtils.random(-CHILD_WOBBLE_INTENSITY, CHILD_WOBBLE_INTENSITY);
+        this.rotation += random.random(-CHILD_WOBBLE_INTENSITY, CHILD_WOBBLE_INTENSITY);
+    }
+
+    /**
+     * Move children after an external integrator has stepped this parent
+     */
+    public void updateChildAttachments(float deltaTime) {
+        updateChildren(deltaTime);
     }
 
     /**
@@ -408,4 +476,16 @@ public class AttachmentPhysics {
     public String getAttachmentId() {
         return attachmentId;
     }
+
+    public float getGroundY() {
+        return groundY;
+    }
+
+    RagdollRandom getRandom() {
+        return random;
+    }
+
+    int getImpactId() {
+        return impactId;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,46 @@
+package ragdollphysics.ragdollutil;
+
+import com.badlogic.gdx.graphics.g2d.PolygonSpriteBatch;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+
+/**
+ * Read-only view of a batch's draw-call counters.
+ * PolygonSpriteBatch and SpriteBatch expose the same public fields without a shared type,
+ * and tests can supply their own implementation instead of a GL-backed batch.
+ */
+public interface BatchCounters {
+
+    /** Draw calls since the batch's last begin() */
+    int renderCalls();
+
+    /** Draw calls since the batch was created */
+    int totalRenderCalls();
+
+    static BatchCounters of(PolygonSpriteBatch batch) {
+        return new BatchCounters() {
+            @Override
+            public int renderCalls() {
+                return batch.renderCalls;
+            }
+
+            @Override
+            public int totalRenderCalls() {
+                return batch.totalRenderCalls;
+            }
+        };
+    }
+
+    static BatchCounters of(SpriteBatch batch) {
+        return new BatchCounters() {
+            @Override
+            public int renderCalls() {
+                return batch.renderCalls;
+            }
+
+            @Override
+            public int totalRenderCalls() {
+                return batch.totalRenderCalls;
+            }
+        };
+    }
+}
@@ -0,0 +1,156 @@
+package ragdollphysics.ragdollutil;
+
+import com.badlogic.gdx.utils.Array;
+import com.esotericsoftware.spine.Bone;
+import com.esotericsoftware.spine.Skeleton;
+
+import java.util.Map;
+
+/**
+ * Position-based (XPBD) solver for connected limb chains.
+ * Bone wobbles still integrate and damp their own velocity, then this solver projects the
+ * predicted rotations onto angle constraints over the Spine bone tree in a fixed
+ * number of iterations and feeds the corrections back into the angular velocities.
+ *
+ * Bones are rigid with fixed length and only their local rotation is simulated, so the
+ * distance constraints between joints hold by construction and only angles are solved.
+ */
+public class BoneChainSolver {
+
+    // ================================
+    // SOLVER CONSTANTS
+    // ================================
+
+    private static final float PARENT_INVERSE_MASS = 0.5f;
+    private static final float CHILD_INVERSE_MASS = 1.0f;
+    private static final float REST_COMPLIANCE = 0.0005f;
+    private static final float MAX_DEPTH_TIGHTENING = 0.3f;
+    private static final float DEPTH_TIGHTENING_PER_LEVEL = 0.05f;
+
+    // ================================
+    // PACKED CHAIN DATA (parent-before-child order)
+    // ================================
+
+    private final BoneWobble[] wobbles;
+    private final int[] parentIndex;
+    private final boolean[] constrained;
+    private final float[] maxRelativeRotation;
+    private final float[] predictedRotation;
+    private final float[] restLambda;
+    private final int iterations;
+
+    // ================================
+    // CONSTRUCTOR
+    // ================================
+
+    public BoneChainSolver(Skeleton skeleton, Map<Bone, BoneWobble> boneWobbles,
+                           MultiBodyRagdoll ragdoll, int iterations) {
+        Array<Bone> bones = skeleton.getBones();
+        int count = bones.size;
+
+        this.wobbles = new BoneWobble[count];
+        this.parentIndex = new int[count];
+        this.constrained = new boolean[count];
+        this.maxRelativeRotation = new float[count];
+        this.predictedRotation = new float[count];
+        this.restLambda = new float[count];
+        this.iterations = Math.max(1, iterations);
+
+        // Spine keeps bones ordered parents first, so a forward sweep visits each joint after its parent
+        for (int i = 0; i < count; i++) {
+            Bone bone = bones.get(i);
+            BoneWobble wobble = boneWobbles.get(bone);
+            wobbles[i] = wobble;
+            parentIndex[i] = bone.getParent() != null ? bones.indexOf(bone.getParent(), true) : -1;
+
+            if (wobble != null) {
+                wobble.solverDriven = true;
+                constrained[i] = !wobble.allowsFreeRotation(ragdoll);
+                float depthTightening = Math.min(wobble.chainDepth * DEPTH_TIGHTENING_PER_LEVEL, MAX_DEPTH_TIGHTENING);
+                maxRelativeRotation[i] = wobble.baseRotationConstraint * (1.0f - depthTightening);
+            }
+        }
+    }
+
+    // ================================
+    // SOLVE
+    // ================================
+
+    /** Project the predicted rotations onto the chain constraints and update velocities */
+    public void solve(float deltaTime) {
+        if (deltaTime <= 0f) return;
+
+        // Wobbles have already integrated and damped, so their rotations are the predicted positions
+        for (int i = 0; i < wobbles.length; i++) {
+            BoneWobble wobble = wobbles[i];
+            if (wobble != null) {
+                predictedRotation[i] = wobble.rotation;
+            }
+            restLambda[i] = 0f;
+        }
+
+        float restAlpha = REST_COMPLIANCE / (deltaTime * deltaTime);
+
+        for (int iteration = 0; iteration < iterations; iteration++) {
+            for (int i = 0; i < wobbles.length; i++) {
+                BoneWobble wobble = wobbles[i];
+                if (wobble == null || wobble.isLocked || !constrained[i]) {
+                    continue;
+                }
+
+                solveRestConstraint(i, wobble, restAlpha);
+
+                int parent = parentIndex[i];
+                if (parent >= 0 && wobbles[parent] != null) {
+                    solveJointLimit(i, wobble, wobbles[parent]);
+                }
+            }
+        }
+
+        // Fold the positional corrections back into velocity so the next step keeps them
+        float inverseDeltaTime = 1f / deltaTime;
+        for (int i = 0; i < wobbles.length; i++) {
+            BoneWobble wobble = wobbles[i];
+            if (wobble != null && !wobble.isLocked) {
+                wobble.angularVelocity += (wobble.rotation - predictedRotation[i]) * inverseDeltaTime;
+            }
+        }
+    }
+
+    // ================================
+    // CONSTRAINTS
+    // ================================
+
+    /** Compliant constraint keeping the wobble offset within its rest range */
+    private void solveRestConstraint(int index, BoneWobble wobble, float alpha) {
+        float excess = Math.abs(wobble.rotation) - wobble.baseRotationConstraint;
+        if (excess <= 0f) return;
+
+        float gradient = Math.signum(wobble.rotation);
+        float deltaLambda = (-excess - alpha * restLambda[index]) / (CHILD_INVERSE_MASS + alpha);
+        restLambda[index] += deltaLambda;
+        wobble.rotation += CHILD_INVERSE_MASS * deltaLambda * gradient;
+    }
+
+    /** Hard angle limit between a bone and the parent rotation it inherits */
+    private void solveJointLimit(int index, BoneWobble wobble, BoneWobble parentWobble) {
+        float influence = wobble.parentInfluence;
+        float relativeRotation = wobble.rotation - parentWobble.rotation * influence;
+        float limit = maxRelativeRotation[index];
+
+        float violation;
+        if (relativeRotation > limit) {
+            violation = relativeRotation - limit;
+        } else if (relativeRotation < -limit) {
+            violation = relativeRotation + limit;
+        } else {
+            return;
+        }
+
+        float parentInverseMass = parentWobble.isLocked ? 0f : PARENT_INVERSE_MASS;
+        float deltaLambda = -violation / (CHILD_INVERSE_MASS + parentInverseMass * influence * influence);
+
+        wobble.rotation += CHILD_INVERSE_MASS * deltaLambda;
+        parentWobble.rotation -= parentInverseMass * influence * deltaLambda;
+    }
+}
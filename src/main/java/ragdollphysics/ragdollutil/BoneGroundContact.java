@@ -0,0 +1,171 @@
+package ragdollphysics.ragdollutil;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.esotericsoftware.spine.Bone;
+import com.esotericsoftware.spine.Skeleton;
+import com.megacrit.cardcrawl.core.Settings;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Cheap ground contact for wobbling limbs. Each selected bone is treated as a capsule from its
+ * origin to its tip. Tip height and how fast it moves per degree of wobble are captured once
+ * per frame from the world transform applyToBones already computed, and each physics step
+ * extrapolates them linearly from the wobble's rotation and the body's drop since the capture.
+ * A tip below the floor turns the wobble back out of it.
+ *
+ * State is held in packed arrays and the bone set is capped, so a step costs a short loop of
+ * arithmetic per skeleton with no allocation.
+ */
+public final class BoneGroundContact {
+
+    // ================================
+    // CONFIGURATION
+    // ================================
+
+    private static final int MAX_CONTACT_BONES = 16;
+    private static final float MIN_BONE_LENGTH = 8f;
+
+    // Ragdoll ground levels rest the body this far above the visual floor (see RagdollFactory)
+    private static final float FLOOR_BELOW_BODY_GROUND = 20f * Settings.scale;
+
+    // Capsule radius as a fraction of bone length
+    private static final float CAPSULE_RADIUS_RATIO = 0.12f;
+
+    // Penetration is cleared over roughly this long, limited to the max push-out speed
+    private static final float CONTACT_RESPONSE_TIME = 0.08f;
+    private static final float MAX_PUSH_OUT_SPEED = 360f;
+
+    // Share of into-the-floor angular velocity reflected back
+    private static final float CONTACT_RESTITUTION = 0.2f;
+
+    // Ignore bones whose tip barely moves with rotation (pointing straight down or up)
+    private static final float MIN_TIP_GRADIENT = 0.05f;
+
+    // ================================
+    // PACKED STATE
+    // ================================
+
+    private final Bone[] bones;
+    private final BoneWobble[] wobbles;
+    private final float[] radius;
+    private final int count;
+
+    // Captured from the last world transform
+    private final float[] tipY;
+    private final float[] tipGradient; // tip height change per degree of wobble rotation
+    private final float[] capturedRotation;
+    private float capturedBodyY;
+    private boolean captured = false;
+
+    // Statistics
+    private int contactsResolved = 0;
+
+    private BoneGroundContact(List<Bone> selected, Map<Bone, BoneWobble> boneWobbles) {
+        this.count = selected.size();
+        this.bones = selected.toArray(new Bone[count]);
+        this.wobbles = new BoneWobble[count];
+        this.radius = new float[count];
+        this.tipY = new float[count];
+        this.tipGradient = new float[count];
+        this.capturedRotation = new float[count];
+
+        for (int i = 0; i < count; i++) {
+            wobbles[i] = boneWobbles.get(bones[i]);
+            radius[i] = bones[i].getData().getLength() * CAPSULE_RADIUS_RATIO;
+        }
+    }
+
+    /**
+     * Pick the longest wobbling bones of a skeleton, or null if none are long enough to matter
+     */
+    public static BoneGroundContact create(Skeleton skeleton, Map<Bone, BoneWobble> boneWobbles) {
+        List<Bone> candidates = new ArrayList<>();
+        for (Bone bone : skeleton.getBones()) {
+            if (boneWobbles.containsKey(bone) && bone.getData().getLength() >= MIN_BONE_LENGTH) {
+                candidates.add(bone);
+            }
+        }
+        if (candidates.isEmpty()) {
+            return null;
+        }
+
+        if (candidates.size() > MAX_CONTACT_BONES) {
+            List<Bone> byLength = new ArrayList<>(candidates);
+            byLength.sort((first, second) ->
+                    Float.compare(second.getData().getLength(), first.getData().getLength()));
+            List<Bone> kept = byLength.subList(0, MAX_CONTACT_BONES);
+            candidates.retainAll(kept);
+        }
+        return new BoneGroundContact(candidates, boneWobbles);
+    }
+
+    // ================================
+    // CAPTURE AND RESOLVE
+    // ================================
+
+    /**
+     * Record tip heights from the current world transforms - call right after they are updated
+     */
+    public void capture(float bodyY) {
+        for (int i = 0; i < count; i++) {
+            Bone bone = bones[i];
+            float length = bone.getData().getLength();
+            tipY[i] = bone.getWorldY() + length * bone.getC();
+
+            // Rotating the bone by a small angle moves its tip vertically by length * a * angle,
+            // mirrored when the world transform is flipped
+            float orientation = Math.signum(bone.getA() * bone.getD() - bone.getB() * bone.getC());
+            tipGradient[i] = length * bone.getA() * orientation * MathUtils.degreesToRadians;
+            capturedRotation[i] = wobbles[i].rotation;
+        }
+        capturedBodyY = bodyY;
+        captured = true;
+    }
+
+    /**
+     * Turn wobbles whose tips have sunk below the floor back out of it
+     */
+    public void resolve(float bodyY, float bodyGroundY) {
+        if (!captured) {
+            return;
+        }
+
+        float floorY = bodyGroundY - FLOOR_BELOW_BODY_GROUND;
+        float bodyDrop = bodyY - capturedBodyY;
+        for (int i = 0; i < count; i++) {
+            BoneWobble wobble = wobbles[i];
+            float gradient = tipGradient[i];
+            if (wobble.isLocked || wobble.solverDriven || Math.abs(gradient) < MIN_TIP_GRADIENT) {
+                continue;
+            }
+
+            float currentTipY = tipY[i] + gradient * (wobble.rotation - capturedRotation[i]) + bodyDrop;
+            float penetration = floorY - (currentTipY - radius[i]);
+            if (penetration <= 0f) {
+                continue;
+            }
+
+            float direction = Math.signum(gradient);
+            if (wobble.angularVelocity * direction < 0f) {
+                wobble.angularVelocity *= -CONTACT_RESTITUTION;
+            }
+
+            float pushOutSpeed = Math.min(penetration / Math.abs(gradient) / CONTACT_RESPONSE_TIME, MAX_PUSH_OUT_SPEED);
+            if (wobble.angularVelocity * direction < pushOutSpeed) {
+                wobble.angularVelocity = direction * pushOutSpeed;
+            }
+            contactsResolved++;
+        }
+    }
+
+    public int getBoneCount() {
+        return count;
+    }
+
+    public int getContactsResolved() {
+        return contactsResolved;
+    }
+}
@@ -76,6 +76,9 @@ public class BoneWobble {
 
     // Locking mechanism
     public boolean isLocked = false;
+
+    // Set when a BoneChainSolver owns this bone's constraints
+    public boolean solverDriven = false;
     private float timeSettled = 0f;
     private boolean wasRecentlyUnlocked = false;
     private float lastSignificantMovement = 0f;
@@ -85,11 +88,23 @@ public class BoneWobble {
     private boolean hasAppliedGravityCorrection = false;
     private float gravityTimer = 0f;
 
+    // Damping power for this bone, reused while its factor and the step size stay the same
+    private final DampingTable.Variable damping = DampingTable.variable();
+
     // ================================
     // CONSTRUCTOR
     // ================================
 
     public BoneWobble(float initialRotation, Bone bone, boolean useCurrentPose) {
+        this(initialRotation, bone, useCurrentPose, calculateChainDepth(bone), boneHasVisualAttachment(bone),
+                isAnatomicalLimbName(bone.getData().getName().toLowerCase()));
+    }
+
+    /**
+     * Constructor taking the hierarchy facts precomputed by a RagdollTemplate
+     */
+    BoneWobble(float initialRotation, Bone bone, boolean useCurrentPose, int chainDepth,
+               boolean hasVisualAttachment, boolean anatomicalLimbName) {
         // If useCurrentPose is true, use the initialRotation as both original and starting rotation
         // If false, use the old behavior for backward compatibility
         this.originalRotation = useCurrentPose ? initialRotation : bone.getData().getRotation();
@@ -97,13 +112,10 @@ public class BoneWobble {
         this.bone = bone;
         this.wobbleId = "Wobble_" + System.currentTimeMillis() % 1000;
 
-        String boneName = bone.getData().getName().toLowerCase();
-        boolean hasVisualAttachment = boneHasVisualAttachment(bone);
-
         // Rest of constructor remains the same...
         this.isRootBone = bone.getParent() == null;
         this.isLeafBone = bone.getChildren().size == 0;
-        this.chainDepth = calculateChainDepth(bone);
+        this.chainDepth = chainDepth;
 
         if (hasVisualAttachment) {
             this.baseRotationConstraint = isRootBone ? 60f : Math.max(25f, 45f - chainDepth * 2f);
@@ -113,7 +125,7 @@ public class BoneWobble {
             this.parentInfluence = 0.4f;
         }
 
-        this.isLimb = hasVisualAttachment && isAnatomicalLimbName(boneName);
+        this.isLimb = hasVisualAttachment && anatomicalLimbName;
         this.isLongLimb = this.isLimb;
     }
 
@@ -172,7 +184,7 @@ public class BoneWobble {
         rotation += angularVelocity * deltaTime;
 
         // Apply hierarchical constraints - only during airborne and initial ground contact
-        if (chainDepth > 0 && hasContactedGround && isAirborne && !shouldAllowFreeRotation(ragdoll)) {
+        if (!solverDriven && chainDepth > 0 && hasContactedGround && isAirborne && !shouldAllowFreeRotation(ragdoll)) {
             applyHierarchicalConstraints(ragdoll, parentHasSettled);
         }
 
@@ -209,7 +221,7 @@ public class BoneWobble {
         if (parentHasSettled && Math.abs(angularVelocity) < VELOCITY_DEADZONE) {
             angularVelocity = 0f;
         } else {
-            angularVelocity *= (float) Math.pow(baseDampingFactor, deltaTime * 60f);
+            angularVelocity *= damping.at(baseDampingFactor, deltaTime);
         }
 
         // Final velocity thresholding
@@ -218,7 +230,7 @@ public class BoneWobble {
         }
 
         // Constraint restoration force
-        if (constraintViolation > CONSTRAINT_VIOLATION_THRESHOLD &&
+        if (!solverDriven && constraintViolation > CONSTRAINT_VIOLATION_THRESHOLD &&
                 (!hasContactedGround || isAirborne) && !shouldAllowFreeRotation(ragdoll)) {
             float baseStrength = !hasContactedGround ? 3f : 5f;
             float restorationForce = -Math.signum(rotation) * constraintViolation * baseStrength * deltaTime * 60f;
@@ -247,7 +259,7 @@ public class BoneWobble {
 
     private void applyLimbGravity(float deltaTime) {
         gravityTimer += deltaTime;
-        float normalizedRotation = ((rotation % 360f) + 360f) % 360f;
+        float normalizedRotation = AngleMath.normalize(rotation);
         boolean isPointingUp = (normalizedRotation > 45f && normalizedRotation < 135f) ||
                 (normalizedRotation > 225f && normalizedRotation < 315f);
 
@@ -259,9 +271,7 @@ public class BoneWobble {
                 targetRotation = (normalizedRotation < 270f) ? 180f : 0f;
             }
 
-            float rotationDiff = targetRotation - normalizedRotation;
-            if (rotationDiff > 180f) rotationDiff -= 360f;
-            if (rotationDiff < -180f) rotationDiff += 360f;
+            float rotationDiff = AngleMath.wrapDelta(targetRotation - normalizedRotation);
 
             float verticalness = 1.0f - Math.abs(Math.abs(normalizedRotation - 90f) - 90f) / 90f;
             float gravityTorque = rotationDiff * verticalness * 2.0f;
@@ -277,6 +287,11 @@ public class BoneWobble {
         }
     }
 
+    /** Whether this bone skips rotation constraints, queried once by the chain solver */
+    boolean allowsFreeRotation(MultiBodyRagdoll ragdoll) {
+        return shouldAllowFreeRotation(ragdoll);
+    }
+
     private boolean shouldAllowFreeRotation(MultiBodyRagdoll ragdoll) {
         String monsterClassName = ragdoll.getEntityClassName();
         String boneName = bone.getData().getName().toLowerCase();
@@ -304,7 +319,7 @@ public class BoneWobble {
         return 0f;
     }
 
-    private int calculateChainDepth(Bone bone) {
+    private static int calculateChainDepth(Bone bone) {
         int depth = 0;
         Bone current = bone;
         while (current.getParent() != null) {
@@ -314,7 +329,7 @@ public class BoneWobble {
         return depth;
     }
 
-    private boolean boneHasVisualAttachment(Bone bone) {
+    private static boolean boneHasVisualAttachment(Bone bone) {
         try {
             for (Slot slot : bone.getSkeleton().getSlots()) {
                 if (slot.getBone() == bone && slot.getAttachment() != null) {
@@ -327,7 +342,7 @@ public class BoneWobble {
         return false;
     }
 
-    private boolean isAnatomicalLimbName(String boneName) {
+    static boolean isAnatomicalLimbName(String boneName) {
         return boneName.matches("^(arm|leg|wing)(_bg|_fg|l|r|left|right)?$");
     }
 }
\ No newline at end of file
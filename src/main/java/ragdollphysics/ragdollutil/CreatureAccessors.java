@@ -0,0 +1,170 @@
+package ragdollphysics.ragdollutil;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.esotericsoftware.spine.Skeleton;
+import com.esotericsoftware.spine.SkeletonRenderer;
+import com.megacrit.cardcrawl.characters.AbstractPlayer;
+import com.megacrit.cardcrawl.core.AbstractCreature;
+import com.megacrit.cardcrawl.monsters.AbstractMonster;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+/**
+ * Single access layer for protected creature internals (skeleton, renderer, atlas, images).
+ * Fields are probed once at class load and turned into MethodHandles held in static finals,
+ * so every later access is a direct handle invocation instead of reflective Field.get.
+ * A handle is null when its member could not be found.
+ */
+public final class CreatureAccessors {
+
+    // Try common field names for player images
+    private static final String[] PLAYER_IMAGE_FIELD_NAMES = {"img", "image", "texture", "playerImg", "characterImg"};
+
+    private static final MethodType CREATURE_GETTER = MethodType.methodType(Object.class, AbstractCreature.class);
+    private static final MethodType PLAYER_GETTER = MethodType.methodType(Object.class, AbstractPlayer.class);
+
+    // ================================
+    // RESOLVED HANDLES
+    // ================================
+
+    private static final MethodHandle SKELETON = creatureGetter(AbstractCreature.class, "skeleton");
+    private static final MethodHandle SKELETON_RENDERER = creatureGetter(AbstractCreature.class, "sr");
+    private static final MethodHandle ATLAS = creatureGetter(AbstractCreature.class, "atlas");
+    private static final MethodHandle MONSTER_IMAGE = creatureGetter(AbstractMonster.class, "img");
+    private static final String PLAYER_IMAGE_FIELD_NAME = findPlayerImageFieldName();
+    private static final MethodHandle PLAYER_IMAGE = PLAYER_IMAGE_FIELD_NAME != null
+            ? playerGetter(PLAYER_IMAGE_FIELD_NAME) : null;
+    private static final MethodHandle RENDER_NAME = renderNameHandle();
+
+    private CreatureAccessors() {
+    }
+
+    // ================================
+    // RESOLUTION (runs once)
+    // ================================
+
+    private static MethodHandle creatureGetter(Class<?> owner, String fieldName) {
+        try {
+            Field field = owner.getDeclaredField(fieldName);
+            field.setAccessible(true);
+            return MethodHandles.lookup().unreflectGetter(field).asType(CREATURE_GETTER);
+        } catch (Exception e) {
+            e.printStackTrace();
+            return null;
+        }
+    }
+
+    private static MethodHandle playerGetter(String fieldName) {
+        try {
+            Field field = AbstractPlayer.class.getDeclaredField(fieldName);
+            field.setAccessible(true);
+            return MethodHandles.lookup().unreflectGetter(field).asType(PLAYER_GETTER);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private static String findPlayerImageFieldName() {
+        for (String fieldName : PLAYER_IMAGE_FIELD_NAMES) {
+            try {
+                AbstractPlayer.class.getDeclaredField(fieldName);
+                return fieldName;
+            } catch (NoSuchFieldException e) {
+                // Continue to next field name
+            }
+        }
+        return null;
+    }
+
+    private static MethodHandle renderNameHandle() {
+        try {
+            Method method = AbstractMonster.class.getDeclaredMethod("renderName", SpriteBatch.class);
+            method.setAccessible(true);
+            return MethodHandles.lookup().unreflect(method);
+        } catch (Exception e) {
+            e.printStackTrace();
+            return null;
+        }
+    }
+
+    // ================================
+    // AVAILABILITY
+    // ================================
+
+    /** True when every handle the ragdoll system relies on was resolved */
+    public static boolean isInitialized() {
+        return SKELETON != null && SKELETON_RENDERER != null && ATLAS != null
+                && MONSTER_IMAGE != null && RENDER_NAME != null;
+    }
+
+    public static boolean hasPlayerImageSupport() {
+        return PLAYER_IMAGE != null;
+    }
+
+    public static String getPlayerImageFieldName() {
+        return PLAYER_IMAGE != null ? PLAYER_IMAGE_FIELD_NAME : "none";
+    }
+
+    // ================================
+    // ACCESSORS
+    // ================================
+
+    public static Skeleton getSkeleton(AbstractCreature creature) throws IllegalAccessException {
+        return (Skeleton) get(SKELETON, creature, "skeleton");
+    }
+
+    public static SkeletonRenderer getSkeletonRenderer(AbstractCreature creature) throws IllegalAccessException {
+        return (SkeletonRenderer) get(SKELETON_RENDERER, creature, "sr");
+    }
+
+    public static TextureAtlas getAtlas(AbstractCreature creature) throws IllegalAccessException {
+        return (TextureAtlas) get(ATLAS, creature, "atlas");
+    }
+
+    public static Texture getMonsterImage(AbstractCreature creature) throws IllegalAccessException {
+        return (Texture) get(MONSTER_IMAGE, creature, "img");
+    }
+
+    /** Player image, or null if the player class has no known image field */
+    public static Texture getPlayerImage(AbstractPlayer player) {
+        if (PLAYER_IMAGE == null) {
+            return null;
+        }
+        try {
+            return (Texture) (Object) PLAYER_IMAGE.invokeExact(player);
+        } catch (Throwable e) {
+            return null;
+        }
+    }
+
+    public static void renderName(AbstractMonster monster, SpriteBatch sb) throws Exception {
+        if (RENDER_NAME == null) {
+            throw new IllegalAccessException("renderName not resolved");
+        }
+        try {
+            RENDER_NAME.invokeExact(monster, sb);
+        } catch (Exception | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new Exception(e);
+        }
+    }
+
+    private static Object get(MethodHandle handle, AbstractCreature creature, String fieldName)
+            throws IllegalAccessException {
+        if (handle == null) {
+            throw new IllegalAccessException(fieldName + " accessor not initialized");
+        }
+        try {
+            return (Object) handle.invokeExact(creature);
+        } catch (Throwable e) {
+            throw new IllegalAccessException("Failed to read " + fieldName + ": " + e);
+        }
+    }
+}
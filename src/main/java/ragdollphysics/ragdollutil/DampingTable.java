@@ -0,0 +1,86 @@
+package ragdollphysics.ragdollutil;
+
+/**
+ * Shared frame-rate-independent damping coefficients.
+ * Damping is tuned per 60 FPS frame, so each step multiplies by factor^(deltaTime * 60).
+ *
+ * Constant factors get a Coefficient handle with a single-entry cache keyed on deltaTime,
+ * so the power is computed once per step size for every body that shares it. Per-body
+ * factors (bone wobble damping) get a Variable handle owned by the body, which recomputes
+ * only when its factor or the step size changes - substeps of one step and bodies resting
+ * on a constant factor reuse the last value.
+ */
+public final class DampingTable {
+
+    private static final float FRAMES_PER_SECOND = 60f;
+
+    private DampingTable() {
+    }
+
+    // ================================
+    // CONSTANT COEFFICIENTS
+    // ================================
+
+    /**
+     * Damping coefficient for a fixed per-frame factor
+     */
+    public static final class Coefficient {
+        private final float factor;
+        private float cachedDeltaTime = -1f;
+        private float cachedValue = 1f;
+
+        private Coefficient(float factor) {
+            this.factor = factor;
+        }
+
+        /** factor^(deltaTime * 60), recomputed only when deltaTime changes */
+        public float at(float deltaTime) {
+            if (deltaTime != cachedDeltaTime) {
+                cachedValue = (float) Math.pow(factor, deltaTime * FRAMES_PER_SECOND);
+                cachedDeltaTime = deltaTime;
+            }
+            return cachedValue;
+        }
+
+        public float getFactor() {
+            return factor;
+        }
+    }
+
+    /**
+     * Create a handle for a constant damping factor - keep it in a static final field
+     */
+    public static Coefficient of(float factor) {
+        return new Coefficient(factor);
+    }
+
+    // ================================
+    // VARIABLE FACTORS
+    // ================================
+
+    /**
+     * Damping coefficient for a factor that changes per body - keep one per body
+     */
+    public static final class Variable {
+        private float cachedFactor = -1f;
+        private float cachedDeltaTime = -1f;
+        private float cachedValue = 1f;
+
+        private Variable() {
+        }
+
+        /** factor^(deltaTime * 60), recomputed only when factor or deltaTime changes */
+        public float at(float factor, float deltaTime) {
+            if (factor != cachedFactor || deltaTime != cachedDeltaTime) {
+                cachedValue = (float) Math.pow(factor, deltaTime * FRAMES_PER_SECOND);
+                cachedFactor = factor;
+                cachedDeltaTime = deltaTime;
+            }
+            return cachedValue;
+        }
+    }
+
+    public static Variable variable() {
+        return new Variable();
+    }
+}
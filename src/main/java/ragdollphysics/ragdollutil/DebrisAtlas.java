@@ -0,0 +1,447 @@
+package ragdollphysics.ragdollutil;
+
+import basemod.BaseMod;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.TextureData;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.FileTextureData;
+import com.badlogic.gdx.graphics.glutils.FrameBuffer;
+import com.esotericsoftware.spine.Skeleton;
+import com.esotericsoftware.spine.Slot;
+import com.esotericsoftware.spine.attachments.Attachment;
+import com.esotericsoftware.spine.attachments.MeshAttachment;
+import com.esotericsoftware.spine.attachments.RegionAttachment;
+import com.megacrit.cardcrawl.core.CardCrawlGame;
+import ragdollphysics.RagdollPhysics;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.Future;
+
+/**
+ * Shared runtime atlas for detached attachment textures.
+ * Regions that can become debris are copied into a few shared render-target pages, so debris
+ * from different species (and Haberdashery textures) draws from the same texture instead of
+ * forcing a rebind per attachment.
+ *
+ * Copies are queued when a creature's template is ready and when an unknown region is first
+ * drawn, then packed by process() at a point where no batch is drawing. Pages are filled with
+ * a shelf packer; when all pages are full the least recently drawn page is evicted and its
+ * regions fall back to their original textures until they are packed again. Pages still on
+ * screen are never evicted - new regions are drawn unpacked until one goes idle.
+ *
+ * Every monster instance loads its own TextureAtlas, so copies are keyed by the source file and
+ * region name rather than the region instance - all instances of a species share one copy.
+ * Regions of textures not loaded from a file are drawn from their own texture.
+ * Switched by the enableDebrisAtlas config option, off by default.
+ *
+ * GL thread only.
+ */
+public final class DebrisAtlas {
+
+    // ================================
+    // CONFIGURATION
+    // ================================
+
+    private static final int PAGE_SIZE = 2048;
+    private static final int MAX_PAGES = 3;
+    private static final int PADDING = 2;
+    private static final int MAX_COPIES_PER_FRAME = 32;
+
+    // ================================
+    // STATE
+    // ================================
+
+    private static final List<Page> pages = new ArrayList<>();
+
+    // Keyed by source file and region, shared by every atlas instance loaded from that file
+    private static final Map<String, Entry> entries = new HashMap<>();
+    // Key of each region instance seen, so drawing does not rebuild key strings
+    private static final Map<TextureRegion, String> regionKeys = new WeakHashMap<>();
+    private static final Map<TextureRegion, Boolean> pendingRegions = new LinkedHashMap<>();
+    private static final List<PendingSkeleton> pendingSkeletons = new ArrayList<>();
+
+    // Marks regions that can never fit on a page so they are not queued again
+    private static final Entry UNPACKABLE = new Entry(null, null);
+
+    private static SpriteBatch copyBatch;
+    private static int pagesEvicted = 0;
+
+    private DebrisAtlas() {
+    }
+
+    // ================================
+    // QUEUEING
+    // ================================
+
+    /**
+     * Queue the detachable attachments of a creature for packing once its template is built
+     */
+    static void queue(Skeleton skeleton, Future<RagdollTemplate> template) {
+        if (isEnabled() && skeleton != null) {
+            pendingSkeletons.add(new PendingSkeleton(skeleton, template));
+        }
+    }
+
+    /**
+     * Packed copy of a region, or the region itself if it has not been packed (yet)
+     */
+    public static TextureRegion resolve(TextureRegion source) {
+        if (!isEnabled() || source == null) {
+            return source;
+        }
+        String key = keyOf(source);
+        if (key == null) {
+            return source;
+        }
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            pendingRegions.put(source, Boolean.TRUE);
+            return source;
+        }
+        if (entry == UNPACKABLE) {
+            return source;
+        }
+        entry.page.lastUsedFrame = Gdx.graphics.getFrameId();
+        return entry.packed;
+    }
+
+    // ================================
+    // PACKING
+    // ================================
+
+    /**
+     * Copy queued regions into the shared pages. Call once per frame outside any batch.
+     */
+    public static void process() {
+        if (!isEnabled() || CardCrawlGame.psb == null || CardCrawlGame.psb.isDrawing()) {
+            return;
+        }
+
+        collectReadySkeletons();
+        if (pendingRegions.isEmpty()) {
+            return;
+        }
+
+        int copied = 0;
+        Iterator<TextureRegion> iterator = pendingRegions.keySet().iterator();
+        while (iterator.hasNext() && copied < MAX_COPIES_PER_FRAME) {
+            TextureRegion source = iterator.next();
+            iterator.remove();
+            String key = keyOf(source);
+            if (key != null && !entries.containsKey(key) && pack(source, key)) {
+                copied++;
+            }
+        }
+    }
+
+    private static void collectReadySkeletons() {
+        Iterator<PendingSkeleton> iterator = pendingSkeletons.iterator();
+        while (iterator.hasNext()) {
+            PendingSkeleton pending = iterator.next();
+            if (!pending.template.isDone()) {
+                continue;
+            }
+            iterator.remove();
+
+            RagdollTemplate template;
+            try {
+                template = pending.template.get();
+            } catch (Exception e) {
+                continue;
+            }
+
+            for (Slot slot : pending.skeleton.getSlots()) {
+                Attachment attachment = slot.getAttachment();
+                if (attachment == null) continue;
+                boolean detachable = RagdollPhysics.enableAllShatter
+                        || template.getDetachRule(attachment.getName()) != AttachmentConfig.DetachRule.NEVER;
+                TextureRegion region = regionOf(attachment);
+                if (!detachable || region == null) continue;
+                String key = keyOf(region);
+                if (key != null && !entries.containsKey(key)) {
+                    pendingRegions.put(region, Boolean.TRUE);
+                }
+            }
+        }
+    }
+
+    private static TextureRegion regionOf(Attachment attachment) {
+        if (attachment instanceof RegionAttachment) {
+            return ((RegionAttachment) attachment).getRegion();
+        }
+        if (attachment instanceof MeshAttachment) {
+            return ((MeshAttachment) attachment).getRegion();
+        }
+        return null;
+    }
+
+    private static boolean isEnabled() {
+        return RagdollPhysics.enableDebrisAtlas;
+    }
+
+    /**
+     * Source file and region of a texture region, or null if its texture has no file
+     */
+    private static String keyOf(TextureRegion region) {
+        String key = regionKeys.get(region);
+        if (key == null && !regionKeys.containsKey(region)) {
+            key = buildKey(region);
+            regionKeys.put(region, key);
+        }
+        return key;
+    }
+
+    private static String buildKey(TextureRegion region) {
+        Texture texture = region.getTexture();
+        TextureData data = texture != null ? texture.getTextureData() : null;
+        if (!(data instanceof FileTextureData) || ((FileTextureData) data).getFileHandle() == null) {
+            return null;
+        }
+        String file = ((FileTextureData) data).getFileHandle().path();
+        if (region instanceof TextureAtlas.AtlasRegion) {
+            TextureAtlas.AtlasRegion atlasRegion = (TextureAtlas.AtlasRegion) region;
+            return file + "#" + atlasRegion.name + "#" + atlasRegion.index;
+        }
+        return file + "@" + region.getRegionX() + "," + region.getRegionY() + ","
+                + region.getRegionWidth() + "," + region.getRegionHeight();
+    }
+
+    /**
+     * Release all pages and packed copies, e.g. when the atlas is switched off
+     */
+    public static void clear() {
+        for (Page page : pages) {
+            page.buffer.dispose();
+        }
+        pages.clear();
+        entries.clear();
+        pendingRegions.clear();
+        pendingSkeletons.clear();
+    }
+
+    private static boolean pack(TextureRegion source, String key) {
+        int width = source.getRegionWidth();
+        int height = source.getRegionHeight();
+        if (width <= 0 || height <= 0 || width + PADDING > PAGE_SIZE || height + PADDING > PAGE_SIZE) {
+            entries.put(key, UNPACKABLE);
+            return false;
+        }
+
+        Page page = null;
+        int[] position = null;
+        for (Page candidate : pages) {
+            position = candidate.allocate(width + PADDING, height + PADDING);
+            if (position != null) {
+                page = candidate;
+                break;
+            }
+        }
+
+        if (page == null) {
+            // Every page still on screen - draw unpacked for now and retry once one goes idle
+            if (pages.size() >= MAX_PAGES && !evictLeastRecentlyUsed()) {
+                return false;
+            }
+            page = new Page();
+            pages.add(page);
+            position = page.allocate(width + PADDING, height + PADDING);
+        }
+
+        try {
+            copy(source, page, position[0], position[1]);
+        } catch (Exception e) {
+            BaseMod.logger.warn("Failed to pack debris region: " + e.getMessage());
+            entries.put(key, UNPACKABLE);
+            return false;
+        }
+
+        entries.put(key, new Entry(page, createPackedRegion(source, page.texture(), position[0], position[1])));
+        return true;
+    }
+
+    /**
+     * Copy the stored texels as-is, so rotated atlas regions stay rotated in the copy
+     */
+    private static void copy(TextureRegion source, Page page, int x, int y) {
+        if (copyBatch == null) {
+            copyBatch = new SpriteBatch(1);
+        }
+        copyBatch.getProjectionMatrix().setToOrtho2D(0, 0, PAGE_SIZE, PAGE_SIZE);
+
+        page.buffer.begin();
+        copyBatch.begin();
+        copyBatch.disableBlending();
+        // Flip on draw so the copy is stored top-down like a loaded texture
+        copyBatch.draw(source.getTexture(), x, y, source.getRegionWidth(), source.getRegionHeight(),
+                source.getRegionX(), source.getRegionY(), source.getRegionWidth(), source.getRegionHeight(),
+                false, true);
+        copyBatch.end();
+        copyBatch.enableBlending();
+        page.buffer.end();
+    }
+
+    private static TextureRegion createPackedRegion(TextureRegion source, Texture texture, int x, int y) {
+        if (!(source instanceof TextureAtlas.AtlasRegion)) {
+            return new TextureRegion(texture, x, y, source.getRegionWidth(), source.getRegionHeight());
+        }
+
+        TextureAtlas.AtlasRegion original = (TextureAtlas.AtlasRegion) source;
+        TextureAtlas.AtlasRegion packed = new TextureAtlas.AtlasRegion(texture, x, y,
+                source.getRegionWidth(), source.getRegionHeight());
+        packed.name = original.name;
+        packed.index = original.index;
+        packed.rotate = original.rotate;
+        packed.offsetX = original.offsetX;
+        packed.offsetY = original.offsetY;
+        packed.packedWidth = original.packedWidth;
+        packed.packedHeight = original.packedHeight;
+        packed.originalWidth = original.originalWidth;
+        packed.originalHeight = original.originalHeight;
+        return packed;
+    }
+
+    /**
+     * Drop the page drawn least recently, unless every page is still in use
+     */
+    private static boolean evictLeastRecentlyUsed() {
+        Page oldest = null;
+        for (Page page : pages) {
+            if (page.isInUse()) continue;
+            if (oldest == null || page.lastUsedFrame < oldest.lastUsedFrame) {
+                oldest = page;
+            }
+        }
+        if (oldest == null) {
+            return false;
+        }
+
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().page == oldest) {
+                iterator.remove();
+            }
+        }
+        pages.remove(oldest);
+        oldest.buffer.dispose();
+        pagesEvicted++;
+        return true;
+    }
+
+    // ================================
+    // STATISTICS
+    // ================================
+
+    public static AtlasStats getStats() {
+        int packed = 0;
+        for (Entry entry : entries.values()) {
+            if (entry != UNPACKABLE) packed++;
+        }
+        return new AtlasStats(pages.size(), packed, pendingRegions.size(), pagesEvicted);
+    }
+
+    /**
+     * Statistics about the shared debris atlas
+     */
+    public static class AtlasStats {
+        public final int pages;
+        public final int packedRegions;
+        public final int pendingRegions;
+        public final int pagesEvicted;
+
+        public AtlasStats(int pages, int packedRegions, int pendingRegions, int pagesEvicted) {
+            this.pages = pages;
+            this.packedRegions = packedRegions;
+            this.pendingRegions = pendingRegions;
+            this.pagesEvicted = pagesEvicted;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("DebrisAtlasStats{pages=%d, packed=%d, pending=%d, evicted=%d}",
+                    pages, packedRegions, pendingRegions, pagesEvicted);
+        }
+    }
+
+    // ================================
+    // PAGES
+    // ================================
+
+    /**
+     * One render-target page filled shelf by shelf, bottom to top
+     */
+    private static class Page {
+        final FrameBuffer buffer;
+        final List<int[]> shelves = new ArrayList<>(); // {y, height, nextX}
+        int nextShelfY = 0;
+        long lastUsedFrame;
+
+        Page() {
+            buffer = new FrameBuffer(Pixmap.Format.RGBA8888, PAGE_SIZE, PAGE_SIZE, false);
+            buffer.getColorBufferTexture().setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
+            lastUsedFrame = Gdx.graphics.getFrameId();
+
+            buffer.begin();
+            Gdx.gl.glClearColor(0f, 0f, 0f, 0f);
+            Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+            buffer.end();
+        }
+
+        Texture texture() {
+            return buffer.getColorBufferTexture();
+        }
+
+        /** Drawn this frame, or in the last one - process() runs before this frame's render */
+        boolean isInUse() {
+            return lastUsedFrame >= Gdx.graphics.getFrameId() - 1;
+        }
+
+        /** Reserve a cell, returning its lower-left corner or null if the page is full */
+        int[] allocate(int width, int height) {
+            for (int[] shelf : shelves) {
+                if (height <= shelf[1] && shelf[2] + width <= PAGE_SIZE) {
+                    int[] position = {shelf[2], shelf[0]};
+                    shelf[2] += width;
+                    return position;
+                }
+            }
+            if (nextShelfY + height > PAGE_SIZE || width > PAGE_SIZE) {
+                return null;
+            }
+            int[] shelf = {nextShelfY, height, width};
+            shelves.add(shelf);
+            nextShelfY += height;
+            return new int[]{0, shelf[0]};
+        }
+    }
+
+    private static class Entry {
+        final Page page;
+        final TextureRegion packed;
+
+        Entry(Page page, TextureRegion packed) {
+            this.page = page;
+            this.packed = packed;
+        }
+    }
+
+    private static class PendingSkeleton {
+        final Skeleton skeleton;
+        final Future<RagdollTemplate> template;
+
+        PendingSkeleton(Skeleton skeleton, Future<RagdollTemplate> template) {
+            this.skeleton = skeleton;
+            this.template = template;
+        }
+    }
+}
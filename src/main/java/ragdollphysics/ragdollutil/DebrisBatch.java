@@ -0,0 +1,145 @@
+package ragdollphysics.ragdollutil;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.PolygonSpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+
+/**
+ * Collects a ragdoll's debris quads and meshes into one preallocated vertex array and
+ * submits each run of same-texture pieces as a single PolygonSpriteBatch triangle draw.
+ * Quads are transformed here with one AngleMath sine/cosine lookup per body, in the same corner
+ * layout PolygonSpriteBatch.draw(TextureRegion, ...) produces, so the output matches the
+ * per-piece draws it replaces. With the shared debris atlas most ragdolls submit one run.
+ *
+ * Callers must flush() before drawing anything else into the batch. GL thread only.
+ */
+public final class DebrisBatch {
+
+    private static final int STRIDE = 5; // x, y, color, u, v
+
+    // Kept well under PolygonSpriteBatch's own buffers so a submission never overflows them
+    private static final int MAX_VERTICES = 1000;
+    private static final int MAX_INDICES = 1500;
+
+    private static final float[] vertices = new float[MAX_VERTICES * STRIDE];
+    private static final short[] triangles = new short[MAX_INDICES];
+    private static int vertexCount = 0;
+    private static int indexCount = 0;
+    private static Texture texture;
+
+    private DebrisBatch() {
+    }
+
+    // ================================
+    // SUBMISSION
+    // ================================
+
+    /**
+     * Add a rotated region quad, equivalent to sb.draw(region, x, y, originX, originY, width, height, 1, 1, rotation)
+     */
+    public static void quad(PolygonSpriteBatch sb, TextureRegion region, float x, float y,
+                            float originX, float originY, float width, float height, float rotation) {
+        prepare(sb, region.getTexture(), 4, 6);
+
+        float cos = AngleMath.cosDeg(rotation);
+        float sin = AngleMath.sinDeg(rotation);
+        float worldOriginX = x + originX;
+        float worldOriginY = y + originY;
+        float left = -originX;
+        float bottom = -originY;
+        float right = width - originX;
+        float top = height - originY;
+
+        float x1 = cos * left - sin * bottom;
+        float y1 = sin * left + cos * bottom;
+        float x2 = cos * left - sin * top;
+        float y2 = sin * left + cos * top;
+        float x3 = cos * right - sin * top;
+        float y3 = sin * right + cos * top;
+        float x4 = x1 + (x3 - x2);
+        float y4 = y3 - (y2 - y1);
+
+        float color = sb.getPackedColor();
+        float u = region.getU();
+        float v = region.getV2();
+        float u2 = region.getU2();
+        float v2 = region.getV();
+
+        short base = (short) vertexCount;
+        triangles[indexCount++] = base;
+        triangles[indexCount++] = (short) (base + 1);
+        triangles[indexCount++] = (short) (base + 2);
+        triangles[indexCount++] = (short) (base + 2);
+        triangles[indexCount++] = (short) (base + 3);
+        triangles[indexCount++] = base;
+
+        int i = vertexCount * STRIDE;
+        vertices[i] = x1 + worldOriginX;
+        vertices[i + 1] = y1 + worldOriginY;
+        vertices[i + 2] = color;
+        vertices[i + 3] = u;
+        vertices[i + 4] = v;
+
+        vertices[i + 5] = x2 + worldOriginX;
+        vertices[i + 6] = y2 + worldOriginY;
+        vertices[i + 7] = color;
+        vertices[i + 8] = u;
+        vertices[i + 9] = v2;
+
+        vertices[i + 10] = x3 + worldOriginX;
+        vertices[i + 11] = y3 + worldOriginY;
+        vertices[i + 12] = color;
+        vertices[i + 13] = u2;
+        vertices[i + 14] = v2;
+
+        vertices[i + 15] = x4 + worldOriginX;
+        vertices[i + 16] = y4 + worldOriginY;
+        vertices[i + 17] = color;
+        vertices[i + 18] = u2;
+        vertices[i + 19] = v;
+
+        vertexCount += 4;
+    }
+
+    /**
+     * Add an already transformed mesh (stride-5 vertices, triangles indexed from zero)
+     */
+    public static void mesh(PolygonSpriteBatch sb, Texture meshTexture, float[] meshVertices, int meshVertexCount,
+                            short[] meshTriangles) {
+        if (meshVertexCount > MAX_VERTICES || meshTriangles.length > MAX_INDICES) {
+            // Too large to merge - submit on its own
+            flush(sb);
+            sb.draw(meshTexture, meshVertices, 0, meshVertexCount * STRIDE, meshTriangles, 0, meshTriangles.length);
+            return;
+        }
+
+        prepare(sb, meshTexture, meshVertexCount, meshTriangles.length);
+
+        short base = (short) vertexCount;
+        for (short index : meshTriangles) {
+            triangles[indexCount++] = (short) (base + index);
+        }
+        System.arraycopy(meshVertices, 0, vertices, vertexCount * STRIDE, meshVertexCount * STRIDE);
+        vertexCount += meshVertexCount;
+    }
+
+    /**
+     * Submit everything collected so far
+     */
+    public static void flush(PolygonSpriteBatch sb) {
+        if (vertexCount == 0) {
+            return;
+        }
+        sb.draw(texture, vertices, 0, vertexCount * STRIDE, triangles, 0, indexCount);
+        vertexCount = 0;
+        indexCount = 0;
+    }
+
+    private static void prepare(PolygonSpriteBatch sb, Texture nextTexture, int addVertices, int addIndices) {
+        if (nextTexture != texture || vertexCount + addVertices > MAX_VERTICES
+                || indexCount + addIndices > MAX_INDICES) {
+            flush(sb);
+            texture = nextTexture;
+        }
+    }
+}
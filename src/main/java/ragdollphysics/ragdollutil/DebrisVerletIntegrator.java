@@ -0,0 +1,359 @@
+package ragdollphysics.ragdollutil;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static ragdollphysics.RagdollPhysics.enableZeroGravity;
+
+/**
+ * Time-corrected Verlet integrator for detached debris.
+ * Keeps independent attachment bodies in packed position arrays and steps them in one
+ * tight loop, with the frame-rate-independent damping factors looked up once per step
+ * instead of once per body. Velocities are implicit (current minus previous position) and
+ * are only materialised during collisions and when writing back to the AttachmentPhysics.
+ *
+ * Stepping matches the semi-implicit Euler order used by AttachmentPhysics (gravity,
+ * swept move with world-plane contacts, air resistance), so results agree with the default
+ * path up to float error.
+ * Child attachments are not simulated here; they follow their parents after write-back.
+ */
+public class DebrisVerletIntegrator {
+
+    // ================================
+    // CONFIGURATION
+    // ================================
+
+    /** Independent debris bodies at which a ragdoll switches to this integrator */
+    public static final int BODY_COUNT_THRESHOLD = 12;
+
+    // ================================
+    // PACKED BODY STATE
+    // ================================
+
+    private final AttachmentPhysics[] bodies;
+    private final float[] x, y, prevX, prevY;
+    private final float[] rotation, prevRotation;
+    private final float[] groundY;
+    private final int count;
+    private float lastDeltaTime = 0f;
+    private boolean initialized = false;
+
+    // Per-step damping shared with AttachmentPhysics through the DampingTable handles
+    private float airDamping;
+    private float groundLinearDamping;
+    private float groundAngularDamping;
+    private float ceilingAngularDamping;
+
+    // Scratch state for the body whose contacts are being resolved
+    private float contactX, contactY;
+    private float contactVelocityX, contactVelocityY, contactAngularVelocity;
+
+    // ================================
+    // CONSTRUCTOR
+    // ================================
+
+    public DebrisVerletIntegrator(Collection<AttachmentPhysics> attachments) {
+        List<AttachmentPhysics> independent = new ArrayList<>();
+        for (AttachmentPhysics attachment : attachments) {
+            if (!attachment.isChild()) {
+                independent.add(attachment);
+            }
+        }
+
+        this.count = independent.size();
+        this.bodies = independent.toArray(new AttachmentPhysics[count]);
+        this.x = new float[count];
+        this.y = new float[count];
+        this.prevX = new float[count];
+        this.prevY = new float[count];
+        this.rotation = new float[count];
+        this.prevRotation = new float[count];
+        this.groundY = new float[count];
+
+        for (int i = 0; i < count; i++) {
+            groundY[i] = bodies[i].getGroundY();
+        }
+    }
+
+    /**
+     * Check whether a ragdoll's debris should be stepped with this integrator
+     */
+    public static boolean shouldUse(Collection<AttachmentPhysics> attachments) {
+        if (ragdollphysics.RagdollPhysics.enableAllShatter) {
+            return true;
+        }
+        int independent = 0;
+        for (AttachmentPhysics attachment : attachments) {
+            if (!attachment.isChild()) {
+                independent++;
+            }
+        }
+        return independent >= BODY_COUNT_THRESHOLD;
+    }
+
+    // ================================
+    // STATE SYNC
+    // ================================
+
+    /**
+     * Pull positions and velocities from the attachment objects. Call after anything
+     * outside the integrator changes attachment velocities (e.g. a global force).
+     */
+    public void readFromBodies() {
+        if (!initialized) return;
+        for (int i = 0; i < count; i++) {
+            loadBody(i, lastDeltaTime);
+        }
+    }
+
+    /**
+     * Push packed state back onto the attachment objects and move their children
+     */
+    public void writeToBodies() {
+        if (!initialized || lastDeltaTime <= 0f) return;
+
+        float inverseDeltaTime = 1f / lastDeltaTime;
+        for (int i = 0; i < count; i++) {
+            AttachmentPhysics body = bodies[i];
+            body.x = x[i];
+            body.y = y[i];
+            body.rotation = rotation[i];
+            body.velocityX = (x[i] - prevX[i]) * inverseDeltaTime;
+            body.velocityY = (y[i] - prevY[i]) * inverseDeltaTime;
+            body.angularVelocity = (rotation[i] - prevRotation[i]) * inverseDeltaTime;
+            body.updateChildAttachments(lastDeltaTime);
+        }
+    }
+
+    private void loadBody(int i, float deltaTime) {
+        AttachmentPhysics body = bodies[i];
+        x[i] = body.x;
+        y[i] = body.y;
+        rotation[i] = body.rotation;
+        prevX[i] = body.x - body.velocityX * deltaTime;
+        prevY[i] = body.y - body.velocityY * deltaTime;
+        prevRotation[i] = body.rotation - body.angularVelocity * deltaTime;
+    }
+
+    // ================================
+    // INTEGRATION
+    // ================================
+
+    /**
+     * Advance every debris body by one physics step
+     */
+    public void step(float deltaTime) {
+        if (deltaTime <= 0f) return;
+
+        if (!initialized) {
+            for (int i = 0; i < count; i++) {
+                loadBody(i, deltaTime);
+            }
+            lastDeltaTime = deltaTime;
+            initialized = true;
+        }
+
+        airDamping = AttachmentPhysics.AIR_STEP_DAMPING.at(deltaTime);
+        groundLinearDamping = AttachmentPhysics.GROUND_LINEAR_STEP_DAMPING.at(deltaTime);
+        groundAngularDamping = AttachmentPhysics.GROUND_ANGULAR_STEP_DAMPING.at(deltaTime);
+        ceilingAngularDamping = AttachmentPhysics.CEILING_ANGULAR_STEP_DAMPING.at(deltaTime);
+
+        float timeRatio = deltaTime / lastDeltaTime;
+        float gravityStep = enableZeroGravity ? 0f : AttachmentPhysics.GRAVITY * deltaTime * deltaTime;
+
+        for (int i = 0; i < count; i++) {
+            float currentX = x[i];
+            float currentY = y[i];
+            float currentRotation = rotation[i];
+
+            x[i] = currentX + (currentX - prevX[i]) * timeRatio;
+            y[i] = currentY + (currentY - prevY[i]) * timeRatio + gravityStep;
+            float nextRotation = currentRotation + (currentRotation - prevRotation[i]) * timeRatio;
+            rotation[i] = AngleMath.normalize(nextRotation);
+
+            prevX[i] = currentX;
+            prevY[i] = currentY;
+            // Shift the previous rotation with the wrap so the implicit angular velocity is unchanged
+            prevRotation[i] = currentRotation + (rotation[i] - nextRotation);
+
+            handleCollisions(i, deltaTime);
+
+            // Air resistance scales the implicit velocity by moving the previous position
+            if (y[i] > groundY[i]) {
+                prevX[i] = x[i] - (x[i] - prevX[i]) * airDamping;
+                prevRotation[i] = rotation[i] - (rotation[i] - prevRotation[i]) * airDamping;
+            }
+        }
+
+        lastDeltaTime = deltaTime;
+    }
+
+    // ================================
+    // COLLISIONS
+    // ================================
+
+    /**
+     * Resolve this step's world-plane contacts: swept along the step's motion when the body
+     * started inside the world, otherwise with the discrete end-of-step checks
+     */
+    private void handleCollisions(int i, float deltaTime) {
+        if (!sweepCollisions(i, deltaTime)) {
+            handleDiscreteCollisions(i, deltaTime);
+        }
+    }
+
+    /**
+     * Move from the step's start towards its end, responding at each plane crossed on the way.
+     * Returns false when the motion crosses no plane.
+     */
+    private boolean sweepCollisions(int i, float deltaTime) {
+        float startX = prevX[i];
+        float startY = prevY[i];
+        float dx = x[i] - startX;
+        float dy = y[i] - startY;
+        int plane = SweptCollision.firstContact(startX, startY, dx, dy, groundY[i]);
+        if (plane == SweptCollision.NONE) {
+            return false;
+        }
+
+        loadContactVelocity(i, deltaTime);
+        float remaining = 1f;
+        for (int contact = 0; ; ) {
+            float t = SweptCollision.fraction(plane, startX, startY, dx, dy, groundY[i]);
+            contactX = startX + dx * t;
+            contactY = startY + dy * t;
+            remaining *= 1f - t;
+
+            respondToContact(i, plane);
+            startX = contactX;
+            startY = contactY;
+            dx = contactVelocityX * deltaTime * remaining;
+            dy = contactVelocityY * deltaTime * remaining;
+
+            if (++contact >= SweptCollision.MAX_CONTACTS_PER_STEP) {
+                dx = 0f;
+                dy = 0f;
+                break;
+            }
+            plane = SweptCollision.firstContact(startX, startY, dx, dy, groundY[i]);
+            if (plane == SweptCollision.NONE) {
+                break;
+            }
+        }
+
+        x[i] = startX + dx;
+        y[i] = startY + dy;
+        storeContactVelocity(i, deltaTime);
+        return true;
+    }
+
+    /**
+     * Same boundary responses as AttachmentPhysics, for bodies already outside at the step's start.
+     * Like AttachmentPhysics, each plane is tested against the position and velocity left by the
+     * previous plane's response: ground, ceiling, then walls.
+     */
+    private void handleDiscreteCollisions(int i, float deltaTime) {
+        if (y[i] >= groundY[i] && y[i] <= AttachmentPhysics.CEILING_Y
+                && x[i] <= AttachmentPhysics.RIGHT_WALL_X && x[i] >= AttachmentPhysics.LEFT_WALL_X) {
+            return;
+        }
+
+        loadContactVelocity(i, deltaTime);
+        contactX = x[i];
+        contactY = y[i];
+
+        if (contactY < groundY[i] && contactVelocityY < 0f) {
+            respondToContact(i, SweptCollision.GROUND);
+        }
+        if (contactY > AttachmentPhysics.CEILING_Y && contactVelocityY > 0f) {
+            respondToContact(i, SweptCollision.CEILING);
+        }
+        if (contactX > AttachmentPhysics.RIGHT_WALL_X && contactVelocityX > 0f) {
+            respondToContact(i, SweptCollision.RIGHT_WALL);
+        }
+        if (contactX < AttachmentPhysics.LEFT_WALL_X && contactVelocityX < 0f) {
+            respondToContact(i, SweptCollision.LEFT_WALL);
+        }
+
+        x[i] = contactX;
+        y[i] = contactY;
+        storeContactVelocity(i, deltaTime);
+    }
+
+    /** Materialise the implicit velocity of body i into the contact scratch state */
+    private void loadContactVelocity(int i, float deltaTime) {
+        float inverseDeltaTime = 1f / deltaTime;
+        contactVelocityX = (x[i] - prevX[i]) * inverseDeltaTime;
+        contactVelocityY = (y[i] - prevY[i]) * inverseDeltaTime;
+        contactAngularVelocity = (rotation[i] - prevRotation[i]) * inverseDeltaTime;
+    }
+
+    /** Turn the contact velocity back into body i's previous position */
+    private void storeContactVelocity(int i, float deltaTime) {
+        prevX[i] = x[i] - contactVelocityX * deltaTime;
+        prevY[i] = y[i] - contactVelocityY * deltaTime;
+        prevRotation[i] = rotation[i] - contactAngularVelocity * deltaTime;
+    }
+
+    /** Snap the contact point onto the plane and apply the AttachmentPhysics response */
+    private void respondToContact(int i, int plane) {
+        RagdollRandom random = bodies[i].getRandom();
+
+        switch (plane) {
+            case SweptCollision.GROUND:
+                contactY = groundY[i];
+                if (Math.abs(contactVelocityY) > AttachmentPhysics.ATTACHMENT_BOUNCE_THRESHOLD) {
+                    ImpactEvents.push(bodies[i].getImpactId(), ImpactEvents.SOURCE_DEBRIS, ImpactEvents.GROUND,
+                            contactX, contactY, Math.abs(contactVelocityY) * (1f + AttachmentPhysics.GROUND_BOUNCE_DAMPING));
+                    contactVelocityY *= -AttachmentPhysics.GROUND_BOUNCE_DAMPING;
+                    contactVelocityX *= AttachmentPhysics.GROUND_FRICTION;
+                    contactAngularVelocity *= AttachmentPhysics.GROUND_ANGULAR_DAMPING;
+                } else {
+                    contactVelocityY = 0f;
+                    contactVelocityX *= groundLinearDamping;
+                    contactAngularVelocity *= groundAngularDamping;
+                }
+                break;
+            case SweptCollision.CEILING:
+                contactY = AttachmentPhysics.CEILING_Y;
+                if (Math.abs(contactVelocityY) > AttachmentPhysics.ATTACHMENT_BOUNCE_THRESHOLD) {
+                    ImpactEvents.push(bodies[i].getImpactId(), ImpactEvents.SOURCE_DEBRIS, ImpactEvents.CEILING,
+                            contactX, contactY, Math.abs(contactVelocityY) * (1f + AttachmentPhysics.CEILING_BOUNCE_DAMPING));
+                    contactVelocityY *= -AttachmentPhysics.CEILING_BOUNCE_DAMPING;
+                    contactVelocityX *= AttachmentPhysics.GROUND_FRICTION;
+                    contactAngularVelocity = random.random(-450f, 450f);
+                } else {
+                    contactVelocityY = 0f;
+                    contactVelocityX *= groundLinearDamping;
+                    contactAngularVelocity *= ceilingAngularDamping;
+                }
+                break;
+            case SweptCollision.RIGHT_WALL:
+                contactX = AttachmentPhysics.RIGHT_WALL_X;
+                pushWallImpact(i);
+                contactVelocityX *= -AttachmentPhysics.WALL_BOUNCE_DAMPING;
+                contactAngularVelocity = random.random(-360f, 360f);
+                break;
+            case SweptCollision.LEFT_WALL:
+                contactX = AttachmentPhysics.LEFT_WALL_X;
+                pushWallImpact(i);
+                contactVelocityX *= -AttachmentPhysics.WALL_BOUNCE_DAMPING;
+                contactAngularVelocity = random.random(-360f, 360f);
+                break;
+        }
+    }
+
+    private void pushWallImpact(int i) {
+        ImpactEvents.push(bodies[i].getImpactId(), ImpactEvents.SOURCE_DEBRIS, ImpactEvents.WALL,
+                contactX, contactY, Math.abs(contactVelocityX) * (1f + AttachmentPhysics.WALL_BOUNCE_DAMPING));
+    }
+
+    // ================================
+    // ACCESSORS
+    // ================================
+
+    public int getBodyCount() {
+        return count;
+    }
+}
@@ -0,0 +1,115 @@
+package ragdollphysics.ragdollutil;
+
+import com.badlogic.gdx.graphics.g2d.PolygonSpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.esotericsoftware.spine.Slot;
+import com.esotericsoftware.spine.attachments.MeshAttachment;
+
+/**
+ * Deformed mesh geometry of a detached MeshAttachment, captured once at detach time.
+ * Positions are stored relative to the body centre, so each frame is one rotation and
+ * translation per vertex into a preallocated vertex array, merged into the ragdoll's
+ * DebrisBatch submission. Nothing is allocated after capture.
+ */
+public final class DetachedMeshBuffer {
+
+    private static final int STRIDE = 5; // x, y, color, u, v
+
+    private final float[] localPositions; // x, y per vertex
+    private final float[] sourceUVs;      // u, v per vertex, on the source region
+    private final float[] vertices;
+    private final short[] triangles;
+    private final int vertexCount;
+    private final TextureRegion sourceRegion;
+    private final float captureRotation;
+
+    // Region the vertex UVs currently point at (the source or its shared atlas copy)
+    private TextureRegion uvRegion;
+
+    private DetachedMeshBuffer(float[] worldVertices, short[] triangles, TextureRegion region,
+                               float centerX, float centerY, float captureRotation) {
+        this.vertexCount = worldVertices.length / STRIDE;
+        this.localPositions = new float[vertexCount * 2];
+        this.sourceUVs = new float[vertexCount * 2];
+        this.vertices = new float[vertexCount * STRIDE];
+        this.triangles = triangles.clone();
+        this.sourceRegion = region;
+        this.captureRotation = captureRotation;
+
+        for (int i = 0; i < vertexCount; i++) {
+            int w = i * STRIDE;
+            localPositions[i * 2] = worldVertices[w] - centerX;
+            localPositions[i * 2 + 1] = worldVertices[w + 1] - centerY;
+            sourceUVs[i * 2] = worldVertices[w + 3];
+            sourceUVs[i * 2 + 1] = worldVertices[w + 4];
+        }
+        applyUVs(region);
+    }
+
+    /**
+     * Capture the slot's current deformed mesh around the body centre - call while the death pose is applied
+     */
+    public static DetachedMeshBuffer capture(Slot slot, MeshAttachment mesh, float centerX, float centerY,
+                                             float bodyRotation) {
+        TextureRegion region = mesh.getRegion();
+        short[] triangles = mesh.getTriangles();
+        if (region == null || triangles == null || triangles.length == 0) {
+            return null;
+        }
+        float[] worldVertices = mesh.updateWorldVertices(slot, false);
+        if (worldVertices == null || worldVertices.length < STRIDE * 3) {
+            return null;
+        }
+        return new DetachedMeshBuffer(worldVertices, triangles, region, centerX, centerY, bodyRotation);
+    }
+
+    // ================================
+    // RENDERING
+    // ================================
+
+    /**
+     * Transform the cached mesh to the body's pose and submit it
+     */
+    public void draw(PolygonSpriteBatch sb, float x, float y, float rotation) {
+        TextureRegion region = DebrisAtlas.resolve(sourceRegion);
+        if (region != uvRegion) {
+            applyUVs(region);
+        }
+
+        float angle = rotation - captureRotation;
+        float cos = AngleMath.cosDeg(angle);
+        float sin = AngleMath.sinDeg(angle);
+        float color = sb.getPackedColor();
+
+        for (int i = 0, v = 0; i < vertexCount; i++, v += STRIDE) {
+            float localX = localPositions[i * 2];
+            float localY = localPositions[i * 2 + 1];
+            vertices[v] = x + localX * cos - localY * sin;
+            vertices[v + 1] = y + localX * sin + localY * cos;
+            vertices[v + 2] = color;
+        }
+
+        RenderStats.recordDraw(region, vertexCount);
+        DebrisBatch.mesh(sb, region.getTexture(), vertices, vertexCount, triangles);
+    }
+
+    /**
+     * Point the UVs at a region with the same texel layout as the source (itself or its atlas copy)
+     */
+    private void applyUVs(TextureRegion region) {
+        float uScale = sourceRegion.getU2() != sourceRegion.getU()
+                ? (region.getU2() - region.getU()) / (sourceRegion.getU2() - sourceRegion.getU()) : 1f;
+        float vScale = sourceRegion.getV2() != sourceRegion.getV()
+                ? (region.getV2() - region.getV()) / (sourceRegion.getV2() - sourceRegion.getV()) : 1f;
+
+        for (int i = 0, v = 0; i < vertexCount; i++, v += STRIDE) {
+            vertices[v + 3] = region.getU() + (sourceUVs[i * 2] - sourceRegion.getU()) * uScale;
+            vertices[v + 4] = region.getV() + (sourceUVs[i * 2 + 1] - sourceRegion.getV()) * vScale;
+        }
+        uvRegion = region;
+    }
+
+    public int getVertexCount() {
+        return vertexCount;
+    }
+}
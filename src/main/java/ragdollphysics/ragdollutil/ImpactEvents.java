@@ -0,0 +1,171 @@
+package ragdollphysics.ragdollutil;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Stream of ragdoll impacts against the world planes. Physics pushes a compact record for each
+ * bounce into a preallocated ring buffer during its steps; drain() hands the frame's records to
+ * subscribers once per frame. Each subscriber only sees the surfaces it asked for and at most
+ * its per-frame quota, so hundreds of shards landing at once cost a bounded amount of
+ * sound and VFX work. Records past the buffer's capacity in one frame are dropped.
+ *
+ * Low-energy resting contacts are not impacts and are never recorded. Game thread only.
+ */
+public final class ImpactEvents {
+
+    // ================================
+    // RECORD FIELDS
+    // ================================
+
+    // Surfaces, usable as a subscription mask
+    public static final int GROUND = 1;
+    public static final int CEILING = 2;
+    public static final int WALL = 4;
+    public static final int ANY_SURFACE = GROUND | CEILING | WALL;
+
+    // What hit the surface
+    public static final int SOURCE_BODY = 0;
+    public static final int SOURCE_DEBRIS = 1;
+
+    /** Receives drained impacts - primitives only, so delivery allocates nothing */
+    public interface Listener {
+        void onImpact(int bodyId, int source, int surface, float x, float y, float impulse);
+    }
+
+    // ================================
+    // RING BUFFER
+    // ================================
+
+    private static final int CAPACITY = 512;
+
+    private static final int[] bodyIds = new int[CAPACITY];
+    private static final byte[] sources = new byte[CAPACITY];
+    private static final byte[] surfaces = new byte[CAPACITY];
+    private static final float[] positionsX = new float[CAPACITY];
+    private static final float[] positionsY = new float[CAPACITY];
+    private static final float[] impulses = new float[CAPACITY];
+    private static int head = 0;
+    private static int size = 0;
+
+    private static int nextBodyId = 0;
+
+    // ================================
+    // SUBSCRIBERS
+    // ================================
+
+    private static final List<Subscription> subscriptions = new ArrayList<>();
+
+    // Statistics
+    private static int pushedCount = 0;
+    private static int droppedCount = 0;
+    private static int deliveredCount = 0;
+
+    private ImpactEvents() {
+    }
+
+    /** A fresh id for a physics body's impact records */
+    public static int nextBodyId() {
+        return nextBodyId++;
+    }
+
+    /**
+     * Subscribe to impacts on the given surfaces, at most maxPerFrame of them each frame
+     */
+    public static void subscribe(int surfaceMask, int maxPerFrame, float minImpulse, Listener listener) {
+        subscriptions.add(new Subscription(surfaceMask, maxPerFrame, minImpulse, listener));
+    }
+
+    // ================================
+    // PUSH AND DRAIN
+    // ================================
+
+    /**
+     * Record one impact. impulse is the change in normal velocity the bounce caused (px/s).
+     */
+    public static void push(int bodyId, int source, int surface, float x, float y, float impulse) {
+        pushedCount++;
+        if (size == CAPACITY || subscriptions.isEmpty()) {
+            droppedCount++;
+            return;
+        }
+
+        int i = (head + size) % CAPACITY;
+        bodyIds[i] = bodyId;
+        sources[i] = (byte) source;
+        surfaces[i] = (byte) surface;
+        positionsX[i] = x;
+        positionsY[i] = y;
+        impulses[i] = impulse;
+        size++;
+    }
+
+    /**
+     * Deliver the frame's impacts to subscribers within their quotas and empty the buffer
+     */
+    public static void drain() {
+        for (int s = 0; s < subscriptions.size(); s++) {
+            subscriptions.get(s).deliveredThisFrame = 0;
+        }
+
+        for (int n = 0; n < size; n++) {
+            int i = (head + n) % CAPACITY;
+            for (int s = 0; s < subscriptions.size(); s++) {
+                Subscription subscription = subscriptions.get(s);
+                if ((subscription.surfaceMask & surfaces[i]) == 0
+                        || impulses[i] < subscription.minImpulse
+                        || subscription.deliveredThisFrame >= subscription.maxPerFrame) {
+                    continue;
+                }
+                subscription.deliveredThisFrame++;
+                deliveredCount++;
+                subscription.listener.onImpact(bodyIds[i], sources[i], surfaces[i],
+                        positionsX[i], positionsY[i], impulses[i]);
+            }
+        }
+
+        head = (head + size) % CAPACITY;
+        size = 0;
+    }
+
+    private static class Subscription {
+        final int surfaceMask;
+        final int maxPerFrame;
+        final float minImpulse;
+        final Listener listener;
+        int deliveredThisFrame;
+
+        Subscription(int surfaceMask, int maxPerFrame, float minImpulse, Listener listener) {
+            this.surfaceMask = surfaceMask;
+            this.maxPerFrame = maxPerFrame;
+            this.minImpulse = minImpulse;
+            this.listener = listener;
+        }
+    }
+
+    // ================================
+    // STATISTICS
+    // ================================
+
+    public static ImpactStats getStats() {
+        return new ImpactStats(pushedCount, droppedCount, deliveredCount);
+    }
+
+    public static class ImpactStats {
+        public final int pushed;
+        public final int dropped;
+        public final int delivered;
+
+        public ImpactStats(int pushed, int dropped, int delivered) {
+            this.pushed = pushed;
+            this.dropped = dropped;
+            this.delivered = delivered;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("ImpactStats{pushed=%d, dropped=%d, delivered=%d}",
+                    pushed, dropped, delivered);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package ragdollphysics.ragdollutil;
+
+import com.megacrit.cardcrawl.monsters.beyond.SpireGrowth;
+import com.megacrit.cardcrawl.monsters.city.SnakePlant;
+
+import java.util.HashMap;
+
+/**
+ * Configuration for monsters whose limb chains are solved with the position-based
+ * constraint solver instead of independent bone springs.
+ */
+public class LimbSolverConfig {
+
+    // Map of monster ID to solver iterations per physics step
+    private static final HashMap<String, Integer> SOLVER_ITERATIONS = new HashMap<>();
+
+    static {
+        // Long tentacle and stem chains that whip around with the spring model
+        SOLVER_ITERATIONS.put(SpireGrowth.ID, 4);
+        SOLVER_ITERATIONS.put(SnakePlant.ID, 4);
+        // Add more enemies as needed
+    }
+
+    /**
+     * Get the number of solver iterations for a monster (0 = use the spring model)
+     */
+    public static int getSolverIterations(String monsterClassName) {
+        return SOLVER_ITERATIONS.getOrDefault(monsterClassName, 0);
+    }
+
+    /**
+     * Check if a monster's limbs should be driven by the constraint solver
+     */
+    public static boolean usesSolver(String monsterClassName) {
+        return getSolverIterations(monsterClassName) > 0;
+    }
+}
@@ -10,7 +10,9 @@ import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.MathUtils;
 import com.esotericsoftware.spine.Bone;
 import com.esotericsoftware.spine.Skeleton;
+import com.esotericsoftware.spine.SkeletonRenderer;
 import com.esotericsoftware.spine.Slot;
+import com.esotericsoftware.spine.attachments.Attachment;
 import com.esotericsoftware.spine.attachments.MeshAttachment;
 import com.esotericsoftware.spine.attachments.RegionAttachment;
 import com.megacrit.cardcrawl.core.AbstractCreature;
@@ -36,7 +38,9 @@ public class MultiBodyRagdoll {
     private final HashMap<String, AttachmentPhysics> attachmentBodies;
     public final RagdollPhysics mainBody;
     private final List<String> attachmentDrawOrder = new ArrayList<>();
-
+    private BoneChainSolver limbSolver = null;
+    private DebrisVerletIntegrator debrisIntegrator = null;
+    private boolean debrisIntegratorChecked = false;
 
     // ================================
     // MONSTER AND POSITIONING DATA
@@ -46,6 +50,8 @@ public class MultiBodyRagdoll {
     private final AbstractCreature associatedEntity; // Changed from AbstractMonster
     private final String entityClassName;
     private final String ragdollId;
+    private final RagdollRandom random;
+    private final RagdollTemplate template; // null for image-based ragdolls
 
     // Fixed relationship between physics center and visual center
     private final float physicsToVisualOffsetX;
@@ -72,6 +78,26 @@ public class MultiBodyRagdoll {
     private static final float FADE_DURATION = 0.5f;
     private static final float SHADOW_FADE_DURATION = 0.5f;
 
+    // Debris recycled by RagdollManager's limits fades out over this long, then is released
+    private static final float DEBRIS_FADE_DURATION = 0.5f;
+    private float debrisAlpha = 1f;
+    private boolean debrisFading = false;
+    private final Color debrisColor = new Color();
+
+
+    // ================================
+    // CACHED RENDER COMPONENTS
+    // ================================
+
+    private boolean renderComponentsCached = false;
+    private TextureAtlas cachedAtlas;
+    private Skeleton cachedSkeleton;
+    private SkeletonRenderer cachedSkeletonRenderer;
+    private Texture cachedImage;
+    private SkeletonTransformUpdater transformUpdater; // created on first applyToBones
+    private BoneGroundContact groundContact; // null when no wobbling bone is long enough
+    private boolean groundContactChecked = false;
+
 
     // ================================
     // PHYSICS CONFIGURATION
@@ -83,12 +109,43 @@ public class MultiBodyRagdoll {
     private static final float FIXED_TIMESTEP = 1.0f / 60.0f;
 
     private float accumulator = 0f;
-    private float settledTimer = 0f;
     public float totalRotationDegrees = 0f;
     public float lastRotation = 0f;
 
     private HashMap<Bone, Float> deathPoseRotations = new HashMap<>();
 
+
+    // ================================
+    // SETTLE STATE
+    // ================================
+
+    // Ragdolls that never come to rest (zero gravity, wedged) are treated as settled after this long
+    private static final float SETTLE_TIMEOUT = 6.0f;
+    // Time everything must stay at rest before the ragdoll falls asleep
+    private static final float SLEEP_DELAY = 1.0f;
+    private static final float DEBRIS_REST_SPEED = 15f;
+    private static final float DEBRIS_REST_ANGULAR_SPEED = 30f;
+
+    private RagdollState state = RagdollState.AIRBORNE;
+    private float age = 0f;
+    private float restTimer = 0f;
+
+
+    // ================================
+    // BOUNDS AND CULLING
+    // ================================
+
+    // Padding around the body's hitbox until the posed skeleton or image has been measured,
+    // and around each debris piece
+    private static final float BODY_REACH_MARGIN = 1.5f;
+    private static final float DEBRIS_REACH = 250f * Settings.scale;
+    // Tint alpha below which nothing of the ragdoll can be seen
+    private static final float DORMANT_ALPHA = 0.01f;
+
+    private float bodyReach; // only grows - see measureSkeletonReach
+    private float boundsMinX, boundsMinY, boundsMaxX, boundsMaxY;
+    private boolean inView = true; // until the first update computes the bounds
+
     // ================================
     // MONSTER-SPECIFIC CONFIGURATIONS
     // ================================
@@ -131,26 +188,29 @@ public class MultiBodyRagdoll {
     /** Constructor for skeleton-based ragdolls - now captures current bone poses */
     public MultiBodyRagdoll(Skeleton skeleton, float groundLevel, float startX, float startY,
                             String entityClassName, AbstractCreature entity) {
-        this.boneWobbles = new HashMap<>();
+        this.boneWobbles = new LinkedHashMap<>(); // Skeleton order keeps random draws reproducible
         this.entityClassName = entityClassName;
         this.associatedEntity = entity;
         this.attachmentBodies = new HashMap<>();
         this.groundY = groundLevel;
         this.allowsFreeRotation = FREE_ROTATION_ENEMIES.contains(entityClassName);
         this.isImageBased = false;
+        this.random = RagdollRandom.forEntity(entity);
+        this.template = RagdollTemplateCache.get(skeleton, entityClassName);
 
         // Calculate dynamic center of mass correction
         CenterOfMassConfig.CenterOffset centerOffset = CenterOfMassConfig.calculateCenterOffset(skeleton, entityClassName);
         float correctedStartX = startX + centerOffset.x;
         float correctedStartY = startY + centerOffset.y;
 
-        this.mainBody = new RagdollPhysics(correctedStartX, correctedStartY, 0, 0, groundLevel, entityClassName);
+        this.mainBody = new RagdollPhysics(correctedStartX, correctedStartY, 0, 0, groundLevel, entityClassName, random);
 
         // Establish fixed physics-visual relationship
         this.physicsToVisualOffsetX = (entity.drawX - correctedStartX);
         this.physicsToVisualOffsetY = (entity.drawY - correctedStartY);
         this.initialOffsetX = entity.drawX - startX;
         this.initialOffsetY = entity.drawY - startY;
+        this.bodyReach = calculateBodyReach(entity);
 
         this.creationTime = System.currentTimeMillis();
         this.ragdollId = "Ragdoll_" + System.currentTimeMillis() % 10000;
@@ -171,26 +231,29 @@ public class MultiBodyRagdoll {
     /** Constructor for image-based ragdolls - now supports both monsters and players */
     public MultiBodyRagdoll(float startX, float startY, float groundLevel,
                             String entityClassName, AbstractCreature entity) {
-        this.boneWobbles = new HashMap<>();
+        this.boneWobbles = new LinkedHashMap<>();
         this.entityClassName = entityClassName;
         this.associatedEntity = entity; // Changed from associatedMonster
         this.attachmentBodies = new HashMap<>();
         this.groundY = groundLevel;
         this.allowsFreeRotation = FREE_ROTATION_ENEMIES.contains(entityClassName);
         this.isImageBased = true;
+        this.random = RagdollRandom.forEntity(entity);
+        this.template = null;
 
         // Apply center of mass correction for image-based ragdolls too
         CenterOfMassConfig.CenterOffset centerOffset = CenterOfMassConfig.calculateCenterOffset(null, entityClassName);
         float correctedStartX = startX + centerOffset.x;
         float correctedStartY = startY + centerOffset.y;
 
-        this.mainBody = new RagdollPhysics(correctedStartX, correctedStartY, 0, 0, groundLevel, entityClassName);
+        this.mainBody = new RagdollPhysics(correctedStartX, correctedStartY, 0, 0, groundLevel, entityClassName, random);
 
         // Establish fixed physics-visual relationship
         this.physicsToVisualOffsetX = (entity.drawX - correctedStartX);
         this.physicsToVisualOffsetY = (entity.drawY - correctedStartY);
         this.initialOffsetX = entity.drawX - startX;
         this.initialOffsetY = entity.drawY - startY;
+        this.bodyReach = calculateBodyReach(entity);
 
         this.creationTime = System.currentTimeMillis();
         this.ragdollId = "ImageRagdoll_" + System.currentTimeMillis() % 10000;
@@ -209,6 +272,8 @@ public class MultiBodyRagdoll {
      //   BaseMod.logger.info("Entity type: " + entity.getClass().getSimpleName());
 
         float overkillDamage = OverkillTracker.getOverkillDamage(entity);
+        // Past the per-ragdoll limit, attachments stay on the skeleton
+        int debrisLimit = ragdollphysics.RagdollPhysics.maxDebrisPerRagdoll;
         HashMap<String, AttachmentPhysics> parentAttachments = new HashMap<>();
         List<SlotAttachmentData> potentialChildren = new ArrayList<>();
 
@@ -223,15 +288,17 @@ public class MultiBodyRagdoll {
 
             if (slot.getAttachment() != null) {
                 String attachmentNameFull = slot.getAttachment().getName();
-                boolean shouldDetach = AttachmentConfig.shouldDetachAttachment(entityClassName, attachmentNameFull, overkillDamage);
+                boolean shouldDetach = AttachmentConfig.resolveDetachRule(template.getDetachRule(attachmentNameFull),
+                        attachmentNameFull, overkillDamage, random);
 
              //   BaseMod.logger.info("  -> Should detach: " + shouldDetach);
 
-                if (shouldDetach) {
+                if (shouldDetach && attachmentBodies.size() < debrisLimit) {
                     float[] position = calculateAttachmentPosition(slot, entity, startX, startY);
                     AttachmentPhysics parentAttachment = new AttachmentPhysics(
                             position[0], position[1], groundY, slot.getBone(),
-                            slot.getAttachment(), attachmentName);
+                            slot.getAttachment(), attachmentName, random.split());
+                    captureMeshBuffer(parentAttachment, slot, position);
 
                     parentAttachments.put(attachmentName.toLowerCase(), parentAttachment);
                     attachmentBodies.put(attachmentName, parentAttachment);
@@ -244,12 +311,16 @@ public class MultiBodyRagdoll {
 
         // Second pass: Create child attachments linked to parents
         for (SlotAttachmentData data : potentialChildren) {
-            AttachmentPhysics parentAttachment = findParentForChild(entityClassName, data.attachmentName, parentAttachments);
+            if (attachmentBodies.size() >= debrisLimit) {
+                break;
+            }
+            AttachmentPhysics parentAttachment = findParentForChild(data.attachmentName, parentAttachments);
             if (parentAttachment != null) {
                 float[] position = calculateAttachmentPosition(data.slot, entity, startX, startY);
                 AttachmentPhysics childAttachment = new AttachmentPhysics(
                         position[0], position[1], groundY, data.bone,
-                        data.slot.getAttachment(), data.attachmentName, parentAttachment);
+                        data.slot.getAttachment(), data.attachmentName, parentAttachment, random.split());
+                captureMeshBuffer(childAttachment, data.slot, position);
 
                 attachmentBodies.put(data.attachmentName, childAttachment);
                 attachmentDrawOrder.add(data.attachmentName);
@@ -260,6 +331,14 @@ public class MultiBodyRagdoll {
       //  BaseMod.logger.info("=== END ATTACHMENT DEBUG ===");
     }
 
+    /** Keep the deformed shape of detached meshes instead of drawing them as flat regions */
+    private void captureMeshBuffer(AttachmentPhysics body, Slot slot, float[] center) {
+        if (slot.getAttachment() instanceof MeshAttachment) {
+            body.meshBuffer = DetachedMeshBuffer.capture(slot, (MeshAttachment) slot.getAttachment(),
+                    center[0], center[1], body.rotation);
+        }
+    }
+
     /** Calculate attachment position - now works with any AbstractCreature */
     private float[] calculateAttachmentPosition(Slot slot, AbstractCreature entity, float startX, float startY) {
         Bone bone = slot.getBone();
@@ -300,15 +379,28 @@ public class MultiBodyRagdoll {
 
     /** Initialize bone wobbles using current skeleton pose instead of bind pose */
     private void initializeBoneWobblesWithCurrentPose(Skeleton skeleton) {
-        for (Bone bone : skeleton.getBones()) {
+        boolean[] visualBones = template.findVisualBones(skeleton);
+        for (int i = 0; i < skeleton.getBones().size; i++) {
+            Bone bone = skeleton.getBones().get(i);
             // Use current rotation instead of data rotation
             float currentRotation = bone.getRotation();
-            boneWobbles.put(bone, new BoneWobble(currentRotation, bone, true));
+            boneWobbles.put(bone, new BoneWobble(currentRotation, bone, true, template.getChainDepth(i),
+                    visualBones[i], template.isAnatomicalLimb(i)));
         }
     }
 
 
 
+    /** Hand limb constraints to the chain solver for configured monsters - call after final wobbles exist */
+    public void initializeLimbSolver(Skeleton skeleton) {
+        int iterations = LimbSolverConfig.getSolverIterations(entityClassName);
+        if (iterations <= 0 || skeleton == null || boneWobbles.isEmpty()) {
+            return;
+        }
+        limbSolver = new BoneChainSolver(skeleton, boneWobbles, this, iterations);
+    }
+
+
     // ================================
     // FADEABLE SLOTS MANAGEMENT
     // ================================
@@ -395,23 +487,40 @@ public class MultiBodyRagdoll {
     /** Main update method called each frame */
     public void update(float deltaTime) {
         updateCount++;
+        age += deltaTime;
 
         // Update fade timer
         if (!fadeableSlots.isEmpty() && fadeTimer < FADE_DURATION) {
             fadeTimer += deltaTime;
         }
 
+        if (debrisFading && !attachmentBodies.isEmpty()) {
+            debrisAlpha -= deltaTime / DEBRIS_FADE_DURATION;
+            if (debrisAlpha <= 0f) {
+                releaseDebris();
+            }
+        }
+
+        // Nothing to simulate for a ragdoll that can no longer be seen
+        if (isDormant()) {
+            return;
+        }
+
         // Clamp deltaTime to prevent physics instability
         deltaTime = Math.min(deltaTime, MAX_PHYSICS_TIMESTEP);
         float physicsTimestep = Math.max(deltaTime, MIN_PHYSICS_TIMESTEP);
         accumulator += deltaTime;
 
-        // Run physics steps
+        // Run physics steps, each split into as many substeps as the fastest body needs
         int steps = 0;
         while (accumulator >= physicsTimestep) {
             steps++;
-            physicsStepCount++;
-            updatePhysics(physicsTimestep);
+            int substeps = scheduleSubsteps(physicsTimestep);
+            float substepTime = physicsTimestep / substeps;
+            for (int i = 0; i < substeps; i++) {
+                physicsStepCount++;
+                updatePhysics(substepTime);
+            }
             accumulator -= physicsTimestep;
             physicsTimestep = Math.max(MIN_PHYSICS_TIMESTEP, accumulator);
 
@@ -420,6 +529,136 @@ public class MultiBodyRagdoll {
                 break;
             }
         }
+
+        // Debris state lives in packed arrays during the steps - publish it once per frame
+        if (debrisIntegrator != null && steps > 0) {
+            debrisIntegrator.writeToBodies();
+        }
+
+        if (state == RagdollState.SETTLED && isAtRest()) {
+            restTimer += deltaTime;
+        } else {
+            restTimer = 0f;
+        }
+
+        updateBounds();
+    }
+
+    /** Hitbox estimate of the reach from the physics center, used before anything is measured */
+    private float calculateBodyReach(AbstractCreature entity) {
+        return Math.max(entity.hb_w, entity.hb_h) * BODY_REACH_MARGIN
+                + Math.abs(physicsToVisualOffsetX) + Math.abs(physicsToVisualOffsetY);
+    }
+
+    /** Conservative screen-space box around the body and every debris piece */
+    private void updateBounds() {
+        boundsMinX = mainBody.x - bodyReach;
+        boundsMaxX = mainBody.x + bodyReach;
+        boundsMinY = mainBody.y - bodyReach;
+        boundsMaxY = mainBody.y + bodyReach;
+
+        for (AttachmentPhysics attachment : attachmentBodies.values()) {
+            boundsMinX = Math.min(boundsMinX, attachment.x - DEBRIS_REACH);
+            boundsMaxX = Math.max(boundsMaxX, attachment.x + DEBRIS_REACH);
+            boundsMinY = Math.min(boundsMinY, attachment.y - DEBRIS_REACH);
+            boundsMaxY = Math.max(boundsMaxY, attachment.y + DEBRIS_REACH);
+        }
+
+        inView = boundsMaxX > 0f && boundsMinX < Settings.WIDTH
+                && boundsMaxY > 0f && boundsMinY < Settings.HEIGHT;
+    }
+
+    /**
+     * Fully faded out, or asleep outside the view - at rest, so it can never come back into it
+     */
+    public boolean isDormant() {
+        return associatedEntity.tint.color.a <= DORMANT_ALPHA
+                || (state == RagdollState.ASLEEP && !inView);
+    }
+
+    /** Whether any part of the ragdoll may be on screen */
+    public boolean isInView() {
+        return inView;
+    }
+
+    /**
+     * Enter the next settle state if its condition now holds and return it, otherwise null.
+     * Call until null after each update - a state is never returned twice.
+     */
+    RagdollState advanceState() {
+        boolean timedOut = age >= SETTLE_TIMEOUT;
+        switch (state) {
+            case AIRBORNE:
+                if (mainBody.isTouchingGround() || timedOut) {
+                    state = RagdollState.CONTACT;
+                    return state;
+                }
+                break;
+            case CONTACT:
+                if (mainBody.hasSettledOnGround() || timedOut) {
+                    state = RagdollState.SETTLED;
+                    return state;
+                }
+                break;
+            case SETTLED:
+                if (restTimer >= SLEEP_DELAY) {
+                    state = RagdollState.ASLEEP;
+                    return state;
+                }
+                break;
+            default:
+                break;
+        }
+        return null;
+    }
+
+    /** Start fading out all detached debris; it is dropped from the simulation once invisible */
+    public void fadeOutDebris() {
+        debrisFading = true;
+    }
+
+    public boolean isDebrisFading() {
+        return debrisFading;
+    }
+
+    public int getDebrisCount() {
+        return attachmentBodies.size();
+    }
+
+    /** Drop every debris body. Their slots were already emptied by applyToBones, so nothing reappears. */
+    private void releaseDebris() {
+        attachmentBodies.clear();
+        attachmentDrawOrder.clear();
+        debrisIntegrator = null;
+        debrisIntegratorChecked = true;
+    }
+
+    /** The body is settled and no detached debris is still moving */
+    private boolean isAtRest() {
+        if (!mainBody.hasSettledOnGround()) {
+            return false;
+        }
+        for (AttachmentPhysics attachment : attachmentBodies.values()) {
+            if (Math.abs(attachment.velocityX) + Math.abs(attachment.velocityY) > DEBRIS_REST_SPEED
+                    || Math.abs(attachment.angularVelocity) > DEBRIS_REST_ANGULAR_SPEED) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** Substep count for the coming physics step, from the fastest linear and angular motion */
+    private int scheduleSubsteps(float stepTime) {
+        // Detached debris is swept against the world planes, so only the body and limbs set the budget
+        float maxLinear = (float) Math.sqrt(mainBody.velocityX * mainBody.velocityX
+                + mainBody.velocityY * mainBody.velocityY);
+        float maxAngular = Math.abs(mainBody.angularVelocity);
+
+        for (BoneWobble wobble : boneWobbles.values()) {
+            maxAngular = Math.max(maxAngular, Math.abs(wobble.angularVelocity));
+        }
+
+        return SubstepScheduler.substepsFor(maxLinear, maxAngular, stepTime);
     }
 
     /** Update all physics components */
@@ -427,8 +666,18 @@ public class MultiBodyRagdoll {
         mainBody.update(deltaTime, this);
 
         // Update attachments
-        for (AttachmentPhysics attachment : attachmentBodies.values()) {
-            attachment.update(deltaTime);
+        if (!debrisIntegratorChecked) {
+            debrisIntegratorChecked = true;
+            if (DebrisVerletIntegrator.shouldUse(attachmentBodies.values())) {
+                debrisIntegrator = new DebrisVerletIntegrator(attachmentBodies.values());
+            }
+        }
+        if (debrisIntegrator != null) {
+            debrisIntegrator.step(deltaTime);
+        } else {
+            for (AttachmentPhysics attachment : attachmentBodies.values()) {
+                attachment.update(deltaTime);
+            }
         }
 
         // Update bone wobbles
@@ -436,6 +685,16 @@ public class MultiBodyRagdoll {
         for (BoneWobble wobble : boneWobbles.values()) {
             wobble.update(deltaTime, mainBody.velocityX, mainBody.velocityY, parentHasSettled, this);
         }
+
+        // Keep limbs from rotating through the floor
+        if (groundContact != null) {
+            groundContact.resolve(mainBody.y, groundY);
+        }
+
+        // Project connected limb chains back onto their joint limits
+        if (limbSolver != null) {
+            limbSolver.solve(deltaTime);
+        }
     }
 
 
@@ -446,6 +705,7 @@ public class MultiBodyRagdoll {
     /** Apply physics state to skeleton bones - now works with any AbstractCreature */
     public void applyToBones(Skeleton skeleton, AbstractCreature entity) {
         Bone bodyBone = findBodyBone(skeleton);
+        float bodyRotation = AngleMath.normalize(mainBody.rotation); // Already in range after any physics step
 
         if (bodyBone != null) {
             // Body-centered positioning and rotation
@@ -462,9 +722,7 @@ public class MultiBodyRagdoll {
             );
 
             // Apply rotation to body bone
-            float normalizedRotation = mainBody.rotation % 360f;
-            if (normalizedRotation < 0) normalizedRotation += 360f;
-            bodyBone.setRotation(bodyBone.getData().getRotation() + normalizedRotation);
+            bodyBone.setRotation(bodyBone.getData().getRotation() + bodyRotation);
         } else {
             // Fallback: use root bone method
             skeleton.setPosition(
@@ -472,9 +730,7 @@ public class MultiBodyRagdoll {
                     mainBody.y + physicsToVisualOffsetY
             );
             if (skeleton.getRootBone() != null) {
-                float normalizedRotation = mainBody.rotation % 360f;
-                if (normalizedRotation < 0) normalizedRotation += 360f;
-                skeleton.getRootBone().setRotation(normalizedRotation);
+                skeleton.getRootBone().setRotation(bodyRotation);
             }
         }
 
@@ -507,18 +763,56 @@ public class MultiBodyRagdoll {
             }
         }
 
-        skeleton.updateWorldTransform();
+        if (transformUpdater == null || !transformUpdater.isFor(skeleton)) {
+            transformUpdater = new SkeletonTransformUpdater(skeleton);
+        }
+        transformUpdater.update();
+
+        // Wobbling limbs can still move outward until the body falls asleep
+        if (state != RagdollState.ASLEEP) {
+            measureSkeletonReach(skeleton);
+        }
+
+        // Limb tips for the next physics steps' floor contact, from the transform just computed
+        if (!groundContactChecked) {
+            groundContactChecked = true;
+            groundContact = BoneGroundContact.create(skeleton, boneWobbles);
+        }
+        if (groundContact != null) {
+            groundContact.capture(mainBody.y);
+        }
 
         // Re-apply rotation after world transform update
         if (bodyBone != null) {
-            float normalizedRotation = mainBody.rotation % 360f;
-            if (normalizedRotation < 0) normalizedRotation += 360f;
-            bodyBone.setRotation(bodyBone.getData().getRotation() + normalizedRotation);
+            bodyBone.setRotation(bodyBone.getData().getRotation() + bodyRotation);
         } else if (skeleton.getRootBone() != null) {
-            float normalizedRotation = mainBody.rotation % 360f;
-            if (normalizedRotation < 0) normalizedRotation += 360f;
-            skeleton.getRootBone().setRotation(normalizedRotation);
+            skeleton.getRootBone().setRotation(bodyRotation);
+        }
+    }
+
+    /**
+     * Grow the body reach to the farthest attachment vertex from the physics center. The body
+     * bone sits on the center, so the distance holds at any body rotation.
+     */
+    private void measureSkeletonReach(Skeleton skeleton) {
+        float maxDistanceSq = bodyReach * bodyReach;
+        for (Slot slot : skeleton.getSlots()) {
+            Attachment attachment = slot.getAttachment();
+            float[] vertices;
+            if (attachment instanceof RegionAttachment) {
+                vertices = ((RegionAttachment) attachment).updateWorldVertices(slot, false);
+            } else if (attachment instanceof MeshAttachment) {
+                vertices = ((MeshAttachment) attachment).updateWorldVertices(slot, false);
+            } else {
+                continue;
+            }
+            for (int i = 0; i < vertices.length; i += 5) {
+                float dx = vertices[i] - mainBody.x;
+                float dy = vertices[i + 1] - mainBody.y;
+                maxDistanceSq = Math.max(maxDistanceSq, dx * dx + dy * dy);
+            }
         }
+        bodyReach = (float) Math.sqrt(maxDistanceSq);
     }
 
     /** Apply physics positioning to image-based ragdolls - now works with any AbstractCreature */
@@ -545,24 +839,27 @@ public class MultiBodyRagdoll {
         // Calculate angular velocity with modifiers
         float upwardVelocity = Math.max(0, mainBody.velocityY);
         float flipIntensity = Math.min(upwardVelocity / 1200f, 0.5f);
-        float baseAngularVel = MathUtils.random(-72f, 72f);
+        float baseAngularVel = random.random(-72f, 72f);
         mainBody.angularVelocity += baseAngularVel * (1.0f + flipIntensity * 0.3f) * modifiers.angularMultiplier;
 
         // Apply modifiers to attachments
         for (AttachmentPhysics attachment : attachmentBodies.values()) {
-            attachment.velocityX += forceX * MathUtils.random(0.5f, 1.2f) * modifiers.horizontalMultiplier;
-            attachment.velocityY += forceY * MathUtils.random(0.4f, 1.0f) * modifiers.verticalMultiplier;
+            attachment.velocityX += forceX * random.random(0.5f, 1.2f) * modifiers.horizontalMultiplier;
+            attachment.velocityY += forceY * random.random(0.4f, 1.0f) * modifiers.verticalMultiplier;
 
-            float attachmentBaseAngular = MathUtils.random(-360f, 360f);
+            float attachmentBaseAngular = random.random(-360f, 360f);
             attachment.angularVelocity += attachmentBaseAngular * (1.0f + flipIntensity * 0.5f) * modifiers.angularMultiplier;
 
-            attachment.velocityX += MathUtils.random(-75f, 75f) * modifiers.horizontalMultiplier;
-            attachment.velocityY += MathUtils.random(-50f, 100f) * modifiers.verticalMultiplier;
+            attachment.velocityX += random.random(-75f, 75f) * modifiers.horizontalMultiplier;
+            attachment.velocityY += random.random(-50f, 100f) * modifiers.verticalMultiplier;
+        }
+        if (debrisIntegrator != null) {
+            debrisIntegrator.readFromBodies();
         }
 
         // Apply modifiers to bone wobbles
         for (BoneWobble wobble : boneWobbles.values()) {
-            wobble.angularVelocity += MathUtils.random(-90f, 90f) * (1.0f + flipIntensity * 0.5f) * modifiers.angularMultiplier;
+            wobble.angularVelocity += random.random(-90f, 90f) * (1.0f + flipIntensity * 0.5f) * modifiers.angularMultiplier;
         }
     }
 
@@ -590,6 +887,11 @@ public class MultiBodyRagdoll {
          //   BaseMod.logger.info("Skipping render - entity alpha is 0");
             return;
         }
+        if (debrisFading) {
+            debrisColor.set(entityColor);
+            debrisColor.a *= Math.max(0f, debrisAlpha);
+            entityColor = debrisColor;
+        }
 
         // Render attachments in draw order
         for (String attachmentName : attachmentDrawOrder) {
@@ -608,6 +910,7 @@ public class MultiBodyRagdoll {
             renderSingleAttachment(sb, atlas, attachmentPhysics, attachmentName);
             sb.setColor(currentColor);
         }
+        DebrisBatch.flush(sb);
 
       //  BaseMod.logger.info("=== END RENDER DEBUG ===");
 
@@ -645,12 +948,11 @@ public class MultiBodyRagdoll {
                         entityClassName, region.getRegionWidth(), region.getRegionHeight(),
                         attachmentPhysics.originalScaleX, attachmentPhysics.originalScaleY);
 
-                sb.draw(region,
+                drawDebrisRegion(sb, region,
                         attachmentPhysics.x - dimensions[0] / 2f,
                         attachmentPhysics.y - dimensions[1] / 2f,
                         dimensions[0] / 2f, dimensions[1] / 2f,
-                        dimensions[0], dimensions[1],
-                        1f, 1f, attachmentPhysics.rotation);
+                        dimensions[0], dimensions[1], attachmentPhysics.rotation);
             }
         }
     }
@@ -718,12 +1020,11 @@ public class MultiBodyRagdoll {
             }
         }
 
-        sb.draw(region,
+        drawDebrisRegion(sb, region,
                 physics.x - width / 2f,
                 physics.y - height / 2f,
                 width / 2f, height / 2f,
-                width, height,
-                1f, 1f, finalRotation);
+                width, height, finalRotation);
 
         return true;
     }
@@ -764,18 +1065,22 @@ public class MultiBodyRagdoll {
             finalRotation -= 90f; // Counteract the 90-degree rotation from atlas packing
         }
 
-        sb.draw(textureRegion,
+        drawDebrisRegion(sb, textureRegion,
                 physics.x - finalWidth / 2f,
                 physics.y - finalHeight / 2f,
                 finalWidth / 2f, finalHeight / 2f,
-                finalWidth, finalHeight,
-                1f, 1f, finalRotation);
+                finalWidth, finalHeight, finalRotation);
 
         return true;
     }
 
     private boolean renderMeshAttachment(PolygonSpriteBatch sb, MeshAttachment meshAttachment,
                                          AttachmentPhysics physics, String attachmentName) {
+        if (physics.meshBuffer != null) {
+            physics.meshBuffer.draw(sb, physics.x, physics.y, physics.rotation);
+            return true;
+        }
+
         Object region = meshAttachment.getRegion();
         if (region == null) return false;
 
@@ -804,16 +1109,23 @@ public class MultiBodyRagdoll {
             finalRotation -= 90f; // Counteract the 90-degree rotation from atlas packing
         }
 
-        sb.draw(textureRegion,
+        drawDebrisRegion(sb, textureRegion,
                 physics.x - dimensions[0] / 2f,
                 physics.y - dimensions[1] / 2f,
                 dimensions[0] / 2f, dimensions[1] / 2f,
-                dimensions[0], dimensions[1],
-                1f, 1f, finalRotation);
+                dimensions[0], dimensions[1], finalRotation);
 
         return true;
     }
 
+    /** Queue one debris region, from the shared debris atlas when it has been packed */
+    private void drawDebrisRegion(PolygonSpriteBatch sb, TextureRegion region, float x, float y,
+                                  float originX, float originY, float width, float height, float rotation) {
+        TextureRegion drawn = DebrisAtlas.resolve(region);
+        RenderStats.recordDraw(drawn, 4);
+        DebrisBatch.quad(sb, drawn, x, y, originX, originY, width, height, rotation);
+    }
+
     // ================================
     // HELPER METHODS
     // ================================
@@ -858,11 +1170,11 @@ public class MultiBodyRagdoll {
         return null;
     }
 
-    private AttachmentPhysics findParentForChild(String monsterName, String childName,
+    private AttachmentPhysics findParentForChild(String childName,
                                                  HashMap<String, AttachmentPhysics> parentAttachments) {
         for (Map.Entry<String, AttachmentPhysics> entry : parentAttachments.entrySet()) {
             String parentName = entry.getValue().getAttachmentName();
-            if (AttachmentConfig.isChildAttachment(monsterName, parentName, childName)) {
+            if (template.isChildAttachment(parentName, childName)) {
                 return entry.getValue();
             }
         }
@@ -910,6 +1222,10 @@ public class MultiBodyRagdoll {
         return mainBody.hasSettledOnGround();
     }
 
+    public RagdollState getState() {
+        return state;
+    }
+
     public float getCenterX() {
         return mainBody.x;
     }
@@ -930,6 +1246,31 @@ public class MultiBodyRagdoll {
     public float getGroundY() { return groundY; }
     public boolean isImageBased() { return isImageBased; }
     public String getRagdollId() { return ragdollId; }
+    public RagdollRandom getRandom() { return random; }
+    RagdollTemplate getTemplate() { return template; }
+
+    /** Store the creature's render components so the renderer resolves them only once */
+    public void cacheRenderComponents(TextureAtlas atlas, Skeleton skeleton, SkeletonRenderer sr, Texture image) {
+        this.cachedAtlas = atlas;
+        this.cachedSkeleton = skeleton;
+        this.cachedSkeletonRenderer = sr;
+        this.cachedImage = image;
+        this.renderComponentsCached = true;
+
+        // The image is drawn centered on the physics body, so at any rotation it reaches half its diagonal
+        if (isImageBased && image != null) {
+            float halfWidth = image.getWidth() * Settings.scale / 2.0f;
+            float halfHeight = image.getHeight() * Settings.scale / 2.0f;
+            bodyReach = Math.max(bodyReach, (float) Math.sqrt(halfWidth * halfWidth + halfHeight * halfHeight));
+        }
+    }
+
+    public boolean hasCachedRenderComponents() { return renderComponentsCached; }
+    public TextureAtlas getCachedAtlas() { return cachedAtlas; }
+    public Skeleton getCachedSkeleton() { return cachedSkeleton; }
+    public SkeletonTransformUpdater getTransformUpdater() { return transformUpdater; }
+    public SkeletonRenderer getCachedSkeletonRenderer() { return cachedSkeletonRenderer; }
+    public Texture getCachedImage() { return cachedImage; }
     public int getUpdateCount() { return updateCount; }
     public boolean getAllowsFreeRotation() { return allowsFreeRotation; }
     public String getEntityClassName() { return entityClassName; } // Changed from getMonsterClassName
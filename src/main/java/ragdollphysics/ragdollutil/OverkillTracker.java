@@ -1,65 +1,78 @@
 package ragdollphysics.ragdollutil;
 
-import basemod.BaseMod;
 import com.megacrit.cardcrawl.core.AbstractCreature;
-import com.megacrit.cardcrawl.monsters.AbstractMonster;
-
-import java.util.HashMap;
+import ragdollphysics.patches.RagdollFields;
 
+/**
+ * Tracks pre-damage health and overkill per creature.
+ * State lives in a mutable holder attached to each creature through a SpireField,
+ * so recording damage allocates nothing and the state is collected with the creature.
+ */
 public class OverkillTracker {
-    private static final HashMap<AbstractCreature, PreDamageState> preDamageStates = new HashMap<>();
-    private static final HashMap<AbstractCreature, Float> overkillValues = new HashMap<>();
+    private static final float DEFAULT_OVERKILL = 20f;
+    private static final float MAX_OVERKILL = 50f;
 
-    private static class PreDamageState {
-        final float health;
-        final float damageAmount;
-        final long timestamp;
+    /** Per-creature overkill state, allocated once when the creature is constructed */
+    public static class OverkillState {
+        float preDamageHealth;
+        float damageAmount;
+        boolean hasPreDamageState;
+        float overkillDamage;
+        boolean hasOverkill;
+        // Modifiers for the recorded overkill, filled in by PhysicsModifier on first use
+        PhysicsModifier.VelocityModifiers modifiers;
 
-        PreDamageState(float health, float damageAmount) {
-            this.health = health;
-            this.damageAmount = damageAmount;
-            this.timestamp = System.currentTimeMillis();
+        void reset() {
+            preDamageHealth = 0f;
+            damageAmount = 0f;
+            hasPreDamageState = false;
+            overkillDamage = 0f;
+            hasOverkill = false;
+            modifiers = null;
         }
     }
 
+    private static OverkillState stateOf(AbstractCreature entity) {
+        return RagdollFields.overkillState.get(entity);
+    }
+
     public static void storePreDamageState(AbstractCreature entity, float currentHealth, float damageAmount) {
-        preDamageStates.put(entity, new PreDamageState(currentHealth, damageAmount));
+        OverkillState state = stateOf(entity);
+        state.preDamageHealth = currentHealth;
+        state.damageAmount = damageAmount;
+        state.hasPreDamageState = true;
     }
 
     public static float calculateAndRecordOverkill(AbstractCreature entity) {
-        PreDamageState preState = preDamageStates.get(entity);
-        if (preState == null) {
-            return 20f; // Default to baseline if no data
+        OverkillState state = stateOf(entity);
+        if (!state.hasPreDamageState) {
+            return DEFAULT_OVERKILL; // Default to baseline if no data
         }
 
         // Calculate overkill: damage that exceeded what was needed to kill
-        float overkillDamage = Math.max(0, preState.damageAmount - preState.health);
+        float overkillDamage = Math.max(0, state.damageAmount - state.preDamageHealth);
 
         // Cap overkill at 50 for physics calculations
-        overkillDamage = Math.min(overkillDamage, 50f);
+        overkillDamage = Math.min(overkillDamage, MAX_OVERKILL);
 
-        overkillValues.put(entity, overkillDamage);
+        state.overkillDamage = overkillDamage;
+        state.hasOverkill = true;
+        state.modifiers = null;
 
         return overkillDamage;
     }
 
     public static float getOverkillDamage(AbstractCreature entity) {
-        Float overkill = overkillValues.get(entity);
-        return overkill != null ? overkill : 20f; // Default to baseline
+        OverkillState state = stateOf(entity);
+        return state.hasOverkill ? state.overkillDamage : DEFAULT_OVERKILL; // Default to baseline
     }
 
     public static float getPreDamageHealth(AbstractCreature entity) {
-        PreDamageState preState = preDamageStates.get(entity);
-        return preState != null ? preState.health : 0f;
+        OverkillState state = stateOf(entity);
+        return state.hasPreDamageState ? state.preDamageHealth : 0f;
     }
 
     public static void cleanup(AbstractCreature entity) {
-        preDamageStates.remove(entity);
-        overkillValues.remove(entity);
-    }
-
-    public static void cleanupAll() {
-        preDamageStates.clear();
-        overkillValues.clear();
+        stateOf(entity).reset();
     }
-}
\ No newline at end of file
+}
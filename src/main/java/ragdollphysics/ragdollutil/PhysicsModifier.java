@@ -11,12 +11,17 @@ import com.megacrit.cardcrawl.monsters.ending.SpireShield;
 import com.megacrit.cardcrawl.monsters.ending.SpireSpear;
 import com.megacrit.cardcrawl.monsters.exordium.*;
 
+import ragdollphysics.patches.RagdollFields;
+
 import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
 import java.util.HashMap;
 
 /**
  * Calculates physics adjustments based on overkill damage and enemy weight.
  * Modifies velocity multipliers to create more dramatic or subtle ragdoll effects.
+ * Weights are resolved once per class and modifiers once per recorded overkill, so repeated
+ * impulses on the same creature reuse the cached result.
  */
 public class PhysicsModifier {
 
@@ -144,6 +149,14 @@ public class PhysicsModifier {
         ENTITY_WEIGHTS.put(SpireShield.ID, EntityWeight.HEAVY);
     }
 
+    // Class -> weight, resolved once per creature class
+    private static final ClassValue<EntityWeight> CLASS_WEIGHTS = new ClassValue<EntityWeight>() {
+        @Override
+        protected EntityWeight computeValue(Class<?> type) {
+            return ENTITY_WEIGHTS.getOrDefault(resolveEntityID(type), EntityWeight.MEDIUM);
+        }
+    };
+
     // ================================
     // VELOCITY MODIFIER DATA CLASS
     // ================================
@@ -171,11 +184,20 @@ public class PhysicsModifier {
     // ================================
 
     /**
-     * Calculate velocity modifiers for a monster based on overkill damage and weight
+     * Velocity modifiers for a creature based on overkill damage and weight.
+     * Cached on the creature until a new overkill is recorded.
      */
     public static VelocityModifiers calculateModifiers(AbstractCreature entity) {
+        OverkillTracker.OverkillState state = RagdollFields.overkillState.get(entity);
+        if (state.modifiers == null) {
+            state.modifiers = computeModifiers(entity);
+        }
+        return state.modifiers;
+    }
+
+    private static VelocityModifiers computeModifiers(AbstractCreature entity) {
         float overkillDamage = OverkillTracker.getOverkillDamage(entity);
-        EntityWeight weight = getWeight(entity);
+        EntityWeight weight = CLASS_WEIGHTS.get(entity.getClass());
 
         // Calculate base scaling factors from overkill damage
         float horizontalOverkillScale = calculateHorizontalScaling(overkillDamage, entity);
@@ -253,29 +275,26 @@ public class PhysicsModifier {
     }
 
     /**
-     * Get the weight classification for a monster
-     */
-    private static EntityWeight getWeight(AbstractCreature entity) {
-        String entityID = getEntityID(entity);
-        return ENTITY_WEIGHTS.getOrDefault(entityID, EntityWeight.MEDIUM);
-    }
-
-    /**
-     * Get monster ID using reflection, fallback to class name
+     * Get the ID used for weight lookup: a monster's public static ID, otherwise the class simple name
      */
-    private static String getEntityID(AbstractCreature entity) {
-        try {
-            // Try to get monster ID first
-            if (entity instanceof AbstractMonster) {
-                Field idField = entity.getClass().getField("ID");
-                return (String) idField.get(null);
-            } else if (entity instanceof AbstractPlayer) {
-                // For players, use class simple name
-                return entity.getClass().getSimpleName();
+    private static String resolveEntityID(Class<?> type) {
+        if (AbstractMonster.class.isAssignableFrom(type)) {
+            // Scan instead of getField("ID") so classes without one don't throw
+            for (Field field : type.getFields()) {
+                if (field.getName().equals("ID") && field.getType() == String.class
+                        && Modifier.isStatic(field.getModifiers())) {
+                    try {
+                        String id = (String) field.get(null);
+                        if (id != null) {
+                            return id;
+                        }
+                    } catch (IllegalAccessException e) {
+                        // Fall through to class name
+                    }
+                    break;
+                }
             }
-        } catch (Exception e) {
-            // Fallback to class name
         }
-        return entity.getClass().getSimpleName();
+        return type.getSimpleName();
     }
-}
\ No newline at end of file
+}
@@ -1,7 +1,6 @@
 package ragdollphysics.ragdollutil;
 
 import basemod.BaseMod;
-import com.badlogic.gdx.math.MathUtils;
 import com.esotericsoftware.spine.Bone;
 import com.esotericsoftware.spine.Skeleton;
 import com.esotericsoftware.spine.SkeletonRenderer;
@@ -183,6 +182,7 @@ public class RagdollFactory {
 
             // Initialize bone wobbles with hierarchy awareness
             initializeHierarchicalBoneWobbles(ragdoll, skeleton, monster);
+            ragdoll.initializeLimbSolver(skeleton);
 
             return ragdoll;
 
@@ -254,6 +254,7 @@ public class RagdollFactory {
 
             // Initialize bone wobbles with hierarchy awareness
             initializePlayerHierarchicalBoneWobbles(ragdoll, skeleton, player);
+            ragdoll.initializeLimbSolver(skeleton);
 
             return ragdoll;
 
@@ -272,25 +273,29 @@ public class RagdollFactory {
      */
     private void initializeHierarchicalBoneWobbles(MultiBodyRagdoll ragdoll, Skeleton skeleton, AbstractMonster monster) {
         float overkillDamage = OverkillTracker.getOverkillDamage(monster);
-        String monsterName = monster.id;
+        RagdollRandom random = ragdoll.getRandom();
+        RagdollTemplate template = ragdoll.getTemplate();
+        boolean[] visualBones = template.findVisualBones(skeleton);
 
-        for (Bone bone : skeleton.getBones()) {
-            BoneWobble wobble = new BoneWobble(bone.getRotation(), bone);
+        for (int i = 0; i < skeleton.getBones().size; i++) {
+            Bone bone = skeleton.getBones().get(i);
+            BoneWobble wobble = new BoneWobble(bone.getRotation(), bone, false, template.getChainDepth(i),
+                    visualBones[i], template.isAnatomicalLimb(i));
 
             // Apply depth-based reduction
             float depthReduction = Math.min(wobble.chainDepth * CHAIN_DEPTH_REDUCTION_FACTOR, MAX_DEPTH_REDUCTION);
-            wobble.angularVelocity = MathUtils.random(-360f, 360f) * (1.0f - depthReduction);
+            wobble.angularVelocity = random.random(-360f, 360f) * (1.0f - depthReduction);
 
             // Determine bone characteristics
-            boolean hasVisualAttachment = hasVisualAttachment(bone);
-            boolean willBeDetached = willBoneBeDetached(bone, skeleton, monsterName, overkillDamage);
-            boolean isVisualLimb = hasVisualAttachment && isLimbBone(bone);
+            boolean hasVisualAttachment = visualBones[i];
+            boolean willBeDetached = willBoneBeDetached(template, i, skeleton, overkillDamage, random);
+            boolean isVisualLimb = hasVisualAttachment && template.isAnatomicalLimb(i);
 
             // Apply appropriate physics enhancement
-            applyBoneEnhancement(wobble, willBeDetached, isVisualLimb, hasVisualAttachment, depthReduction);
+            applyBoneEnhancement(wobble, willBeDetached, isVisualLimb, hasVisualAttachment, depthReduction, random);
 
             // Apply minimal random initial rotation offset
-            wobble.rotation += MathUtils.random(-2f, 2f);
+            wobble.rotation += random.random(-2f, 2f);
 
             // Store the wobble in the ragdoll
             ragdoll.boneWobbles.put(bone, wobble);
@@ -301,25 +306,25 @@ public class RagdollFactory {
      * Apply physics enhancement based on bone type
      */
     private void applyBoneEnhancement(BoneWobble wobble, boolean willBeDetached, boolean isVisualLimb,
-                                      boolean hasVisualAttachment, float depthReduction) {
+                                      boolean hasVisualAttachment, float depthReduction, RagdollRandom random) {
 
         if (willBeDetached) {
             // Bones with detached attachments get moderate enhancement
-            wobble.angularVelocity *= MathUtils.random(ATTACHMENT_BONE_MULTIPLIER_MIN, ATTACHMENT_BONE_MULTIPLIER_MAX);
+            wobble.angularVelocity *= random.random(ATTACHMENT_BONE_MULTIPLIER_MIN, ATTACHMENT_BONE_MULTIPLIER_MAX);
 
         } else if (isVisualLimb) {
             // Visual limbs get enhanced motion with depth constraints
-            float multiplier = MathUtils.random(VISUAL_LIMB_MULTIPLIER_MIN, VISUAL_LIMB_MULTIPLIER_MAX);
+            float multiplier = random.random(VISUAL_LIMB_MULTIPLIER_MIN, VISUAL_LIMB_MULTIPLIER_MAX);
             wobble.angularVelocity *= multiplier * (1.0f - depthReduction * VISUAL_LIMB_DEPTH_IMPACT);
 
         } else if (hasVisualAttachment) {
             // Other visual bones get slight enhancement
-            float multiplier = MathUtils.random(VISUAL_BONE_MULTIPLIER_MIN, VISUAL_BONE_MULTIPLIER_MAX);
+            float multiplier = random.random(VISUAL_BONE_MULTIPLIER_MIN, VISUAL_BONE_MULTIPLIER_MAX);
             wobble.angularVelocity *= multiplier * (1.0f - depthReduction * VISUAL_BONE_DEPTH_IMPACT);
 
         } else {
             // Animation control bones get reduced motion
-            float multiplier = MathUtils.random(CONTROL_BONE_MULTIPLIER_MIN, CONTROL_BONE_MULTIPLIER_MAX);
+            float multiplier = random.random(CONTROL_BONE_MULTIPLIER_MIN, CONTROL_BONE_MULTIPLIER_MAX);
             wobble.angularVelocity *= multiplier * (1.0f - depthReduction * CONTROL_BONE_DEPTH_IMPACT);
         }
     }
@@ -331,47 +336,35 @@ public class RagdollFactory {
      */
     private void initializePlayerHierarchicalBoneWobbles(MultiBodyRagdoll ragdoll, Skeleton skeleton, AbstractPlayer player) {
         float overkillDamage = OverkillTracker.getOverkillDamage(player);
-        String playerName = player.getClass().getSimpleName();
+        RagdollRandom random = ragdoll.getRandom();
+        RagdollTemplate template = ragdoll.getTemplate();
+        boolean[] visualBones = template.findVisualBones(skeleton);
 
-        for (Bone bone : skeleton.getBones()) {
-            BoneWobble wobble = new BoneWobble(bone.getRotation(), bone);
+        for (int i = 0; i < skeleton.getBones().size; i++) {
+            Bone bone = skeleton.getBones().get(i);
+            BoneWobble wobble = new BoneWobble(bone.getRotation(), bone, false, template.getChainDepth(i),
+                    visualBones[i], template.isAnatomicalLimb(i));
 
             // Apply depth-based reduction
             float depthReduction = Math.min(wobble.chainDepth * CHAIN_DEPTH_REDUCTION_FACTOR, MAX_DEPTH_REDUCTION);
-            wobble.angularVelocity = MathUtils.random(-360f, 360f) * (1.0f - depthReduction);
+            wobble.angularVelocity = random.random(-360f, 360f) * (1.0f - depthReduction);
 
             // Determine bone characteristics
-            boolean hasVisualAttachment = hasVisualAttachment(bone);
-            boolean willBeDetached = willPlayerBoneBeDetached(bone, skeleton, playerName, overkillDamage);
-            boolean isVisualLimb = hasVisualAttachment && isLimbBone(bone);
+            boolean hasVisualAttachment = visualBones[i];
+            boolean willBeDetached = willBoneBeDetached(template, i, skeleton, overkillDamage, random);
+            boolean isVisualLimb = hasVisualAttachment && template.isAnatomicalLimb(i);
 
             // Apply appropriate physics enhancement
-            applyBoneEnhancement(wobble, willBeDetached, isVisualLimb, hasVisualAttachment, depthReduction);
+            applyBoneEnhancement(wobble, willBeDetached, isVisualLimb, hasVisualAttachment, depthReduction, random);
 
             // Apply minimal random initial rotation offset
-            wobble.rotation += MathUtils.random(-2f, 2f);
+            wobble.rotation += random.random(-2f, 2f);
 
             // Store the wobble in the ragdoll
             ragdoll.boneWobbles.put(bone, wobble);
         }
     }
 
-    /**
-     * Check if a player bone will have its attachment detached for physics
-     */
-    private boolean willPlayerBoneBeDetached(Bone bone, Skeleton skeleton, String playerName, float overkillDamage) {
-        for (Slot slot : skeleton.getSlots()) {
-            if (slot.getBone() == bone && slot.getAttachment() instanceof RegionAttachment) {
-                RegionAttachment regionAttachment = (RegionAttachment) slot.getAttachment();
-                String attachmentName = regionAttachment.getName();
-                if (AttachmentConfig.shouldDetachAttachment(playerName, attachmentName, overkillDamage)) {
-                    return true;
-                }
-            }
-        }
-        return false;
-    }
-
     // ================================
     // HELPER METHODS
     // ================================
@@ -396,39 +389,18 @@ public class RagdollFactory {
         }
     }
 
-    /**
-     * Check if a bone has a visual attachment
-     */
-    private boolean hasVisualAttachment(Bone bone) {
-        try {
-            for (Slot slot : bone.getSkeleton().getSlots()) {
-                if (slot.getBone() == bone && slot.getAttachment() != null) {
-                    return true;
-                }
-            }
-        } catch (Exception e) {
-            return true; // Default to visual if determination fails
-        }
-        return false;
-    }
-
-    /**
-     * Check if bone is a limb based on naming pattern
-     */
-    private boolean isLimbBone(Bone bone) {
-        String boneName = bone.getData().getName().toLowerCase();
-        return boneName.matches("^(arm|leg|wing)(_bg|_fg|l|r|left|right)?$");
-    }
-
     /**
      * Check if a bone will have its attachment detached for physics
      */
-    private boolean willBoneBeDetached(Bone bone, Skeleton skeleton, String monsterName, float overkillDamage) {
-        for (Slot slot : skeleton.getSlots()) {
-            if (slot.getBone() == bone && slot.getAttachment() instanceof RegionAttachment) {
+    private boolean willBoneBeDetached(RagdollTemplate template, int boneIndex, Skeleton skeleton,
+                                       float overkillDamage, RagdollRandom random) {
+        for (int slotIndex : template.getBoneSlots(boneIndex)) {
+            Slot slot = skeleton.getSlots().get(slotIndex);
+            if (slot.getAttachment() instanceof RegionAttachment) {
                 RegionAttachment regionAttachment = (RegionAttachment) slot.getAttachment();
                 String attachmentName = regionAttachment.getName();
-                if (AttachmentConfig.shouldDetachAttachment(monsterName, attachmentName, overkillDamage)) {
+                if (AttachmentConfig.resolveDetachRule(template.getDetachRule(attachmentName), attachmentName,
+                        overkillDamage, random)) {
                     return true;
                 }
             }
@@ -440,8 +412,9 @@ public class RagdollFactory {
      * Apply initial physics force to the ragdoll
      */
     private void applyInitialForce(MultiBodyRagdoll ragdoll) {
-        float baseForceX = MathUtils.random(MIN_FORCE_X, MAX_FORCE_X) * Settings.scale;
-        float forceY = MathUtils.random(MIN_FORCE_Y, MAX_FORCE_Y) * Settings.scale;
+        RagdollRandom random = ragdoll.getRandom();
+        float baseForceX = random.random(MIN_FORCE_X, MAX_FORCE_X) * Settings.scale;
+        float forceY = random.random(MIN_FORCE_Y, MAX_FORCE_Y) * Settings.scale;
 
         float playerX = AbstractDungeon.player.drawX;
         float monsterX = ragdoll.getAssociatedEntity().drawX;
@@ -483,8 +456,9 @@ public class RagdollFactory {
         AbstractPlayer player = (AbstractPlayer) ragdoll.getAssociatedEntity();
         PhysicsModifier.VelocityModifiers modifiers = PhysicsModifier.calculateModifiers(player);
 
-        float baseForceX = MathUtils.random(MIN_FORCE_X, MAX_FORCE_X) * Settings.scale * modifiers.horizontalMultiplier;
-        float forceY = MathUtils.random(MIN_FORCE_Y, MAX_FORCE_Y) * Settings.scale * modifiers.verticalMultiplier;
+        RagdollRandom random = ragdoll.getRandom();
+        float baseForceX = random.random(MIN_FORCE_X, MAX_FORCE_X) * Settings.scale * modifiers.horizontalMultiplier;
+        float forceY = random.random(MIN_FORCE_Y, MAX_FORCE_Y) * Settings.scale * modifiers.verticalMultiplier;
         float forceX = -baseForceX;
 
         ragdoll.applyGlobalForce(forceX, forceY);
@@ -5,13 +5,17 @@ import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.evacipated.cardcrawl.modthespire.lib.SpireReturn;
 import com.megacrit.cardcrawl.characters.AbstractPlayer;
+import com.megacrit.cardcrawl.core.AbstractCreature;
 import com.megacrit.cardcrawl.dungeons.AbstractDungeon;
+import com.megacrit.cardcrawl.monsters.MonsterGroup;
 import com.megacrit.cardcrawl.monsters.AbstractMonster;
 import com.megacrit.cardcrawl.monsters.beyond.Exploder;
 import com.megacrit.cardcrawl.vfx.combat.ExplosionSmallEffect;
 import ragdollphysics.effects.TrackingExplosionEffect;
+import ragdollphysics.patches.RagdollFields;
 import ragdollphysics.ragdollutil.ReflectionHelper;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Set;
@@ -19,6 +23,10 @@ import java.util.Set;
 /**
  * Central coordinator for the ragdoll physics system.
  * Manages the lifecycle of ragdolls from creation to cleanup.
+ * Every active ragdoll is stepped by tick(), once per frame, from a single dungeon update hook;
+ * the per-creature patches only create ragdolls and read their state.
+ * Settle progress is published as RagdollState transitions to registered StateListeners.
+ * Past the configured limits the oldest monster ragdolls and debris are faded out and recycled.
  */
 public class RagdollManager {
     // ================================
@@ -37,8 +45,20 @@ public class RagdollManager {
     private final HashMap<AbstractPlayer, MultiBodyRagdoll> playerRagdollBodies = new HashMap<>();
     private final Set<AbstractMonster> failedRagdolls = new HashSet<>();
     private final Set<AbstractPlayer> failedPlayerRagdolls = new HashSet<>();
-    private final HashMap<AbstractMonster, Float> ragdollCreationTimes = new HashMap<>();
-    private static final float RAGDOLL_TIMEOUT = 6.0f;
+
+    // Monsters whose ragdolls were evicted by the live ragdoll limit - their death timers run unsettled
+    private final Set<AbstractMonster> recycledRagdolls = new HashSet<>();
+    private int recycledRagdollCount = 0;
+    private int recycledDebrisCount = 0;
+
+    // Dense list of every stepping ragdoll (monsters and players), walked once per frame by tick()
+    private final ArrayList<MultiBodyRagdoll> activeRagdolls = new ArrayList<>();
+    private long lastTickFrame = -1;
+
+    // Notified once per ragdoll for each settle state it enters
+    private final ArrayList<StateListener> stateListeners = new ArrayList<>();
+    // Listeners scoped to one ragdoll - dropped with it, or once it reaches its last state
+    private final HashMap<MultiBodyRagdoll, ArrayList<StateListener>> ragdollStateListeners = new HashMap<>();
 
     // Exploder-specific state
     private final HashMap<AbstractMonster, Float> exploderTimers = new HashMap<>();
@@ -60,6 +80,16 @@ public class RagdollManager {
     private final String managerId = "RagdollMgr_" + (creationTime % 10000);
 
     public RagdollManager() {
+        // Death timers start counting once a monster ragdoll settles
+        addStateListener(this::onRagdollStateChanged);
+    }
+
+    /**
+     * Receives ragdoll settle transitions. Called from tick() on the game thread, after the
+     * ragdoll's physics for the frame; a listener may remove itself from within the callback.
+     */
+    public interface StateListener {
+        void onStateChanged(MultiBodyRagdoll ragdoll, RagdollState state);
     }
 
     // ================================
@@ -80,8 +110,8 @@ public class RagdollManager {
             }
         }
 
-        // Update existing ragdoll
-        return updateRagdollLogic(monster);
+        // Physics and death timing for ragdolled monsters run in tick()
+        return SpireReturn.Return();
     }
 
     /**
@@ -97,7 +127,7 @@ public class RagdollManager {
             return SpireReturn.Return();
         } catch (Exception e) {
             // Remove failed ragdoll and fall back to default rendering
-            ragdollBodies.remove(monster);
+            removeMonsterRagdoll(monster);
             failedRagdolls.add(monster);
             return SpireReturn.Continue();
         }
@@ -126,7 +156,7 @@ public class RagdollManager {
         if (ragdoll == null) {
             return true; // No ragdoll = considered "settled"
         }
-        return ragdoll.hasSettledOnGround();
+        return ragdoll.getState().isAtLeast(RagdollState.SETTLED);
     }
 
     /**
@@ -145,8 +175,8 @@ public class RagdollManager {
             }
         }
 
-        // Update existing ragdoll
-        return updatePlayerRagdollLogic(player);
+        // Physics runs in tick()
+        return SpireReturn.Return();
     }
 
     /**
@@ -162,7 +192,7 @@ public class RagdollManager {
             return SpireReturn.Return();
         } catch (Exception e) {
             // Remove failed ragdoll and fall back to default rendering
-            playerRagdollBodies.remove(player);
+            removePlayerRagdoll(player);
             failedPlayerRagdolls.add(player);
             return SpireReturn.Continue();
         }
@@ -181,12 +211,145 @@ public class RagdollManager {
             return SpireReturn.Return();
         } catch (Exception e) {
             // Remove failed ragdoll and fall back to default rendering
-            playerRagdollBodies.remove(player);
+            removePlayerRagdoll(player);
             failedPlayerRagdolls.add(player);
             return SpireReturn.Continue();
         }
     }
 
+    // ================================
+    // FRAME TICK
+    // ================================
+    /**
+     * Advance every active ragdoll once. Called from the dungeon update; further calls
+     * in the same frame are ignored, so no ragdoll is ever stepped twice.
+     */
+    public void tick() {
+        long frame = Gdx.graphics.getFrameId();
+        if (frame == lastTickFrame) {
+            return;
+        }
+        lastTickFrame = frame;
+
+        enforceLimits();
+
+        // Walk backwards so ragdolls that finish this frame can be removed in place
+        for (int i = activeRagdolls.size() - 1; i >= 0; i--) {
+            if (i >= activeRagdolls.size()) {
+                continue;
+            }
+            MultiBodyRagdoll ragdoll = activeRagdolls.get(i);
+            AbstractCreature entity = ragdoll.getAssociatedEntity();
+
+            if (entity instanceof AbstractMonster) {
+                tickMonster((AbstractMonster) entity, ragdoll);
+            } else if (entity instanceof AbstractPlayer) {
+                tickPlayer((AbstractPlayer) entity, ragdoll);
+            }
+        }
+    }
+
+    /**
+     * Fade out the oldest ragdolls and debris beyond the configured limits. activeRagdolls is in
+     * creation order, so walking it newest first lets the newest keep their place.
+     */
+    private void enforceLimits() {
+        int maxRagdolls = ragdollphysics.RagdollPhysics.maxRagdolls;
+        int maxDebris = ragdollphysics.RagdollPhysics.maxDebris;
+        int liveRagdolls = 0;
+        int liveDebris = 0;
+
+        for (int i = activeRagdolls.size() - 1; i >= 0; i--) {
+            MultiBodyRagdoll ragdoll = activeRagdolls.get(i);
+            AbstractCreature entity = ragdoll.getAssociatedEntity();
+
+            // Player ragdolls are never recycled; monsters already fading out no longer count
+            if (entity instanceof AbstractMonster) {
+                AbstractMonster monster = (AbstractMonster) entity;
+                if (!monster.tintFadeOutCalled && !recycledRagdolls.contains(monster)
+                        && ++liveRagdolls > maxRagdolls) {
+                    recycleRagdoll(monster);
+                    continue;
+                }
+            }
+
+            int debrisCount = ragdoll.getDebrisCount();
+            if (debrisCount == 0 || ragdoll.isDebrisFading()) {
+                continue;
+            }
+            liveDebris += debrisCount;
+            if (liveDebris > maxDebris) {
+                ragdoll.fadeOutDebris();
+                liveDebris -= debrisCount;
+                recycledDebrisCount += debrisCount;
+            }
+        }
+    }
+
+    /**
+     * Send a monster's ragdoll into its despawn fade now, settled or not
+     */
+    private void recycleRagdoll(AbstractMonster monster) {
+        recycledRagdolls.add(monster);
+        recycledRagdollCount++;
+        if (monster.deathTimer > TINT_FADEOUT_TIME) {
+            monster.deathTimer = TINT_FADEOUT_TIME;
+        }
+    }
+
+    /**
+     * Publish every settle state the ragdoll entered this frame, in order
+     */
+    private void dispatchStateChanges(MultiBodyRagdoll ragdoll) {
+        RagdollState state;
+        while ((state = ragdoll.advanceState()) != null) {
+            // Backwards, so a listener removing itself does not skip the next one
+            for (int i = stateListeners.size() - 1; i >= 0; i--) {
+                stateListeners.get(i).onStateChanged(ragdoll, state);
+            }
+            ArrayList<StateListener> scoped = ragdollStateListeners.get(ragdoll);
+            if (scoped != null) {
+                for (int i = scoped.size() - 1; i >= 0; i--) {
+                    scoped.get(i).onStateChanged(ragdoll, state);
+                }
+            }
+        }
+
+        // No transitions follow ASLEEP
+        if (ragdoll.getState() == RagdollState.ASLEEP) {
+            ragdollStateListeners.remove(ragdoll);
+        }
+    }
+
+    private void onRagdollStateChanged(MultiBodyRagdoll ragdoll, RagdollState state) {
+        if (state != RagdollState.SETTLED || !(ragdoll.getAssociatedEntity() instanceof AbstractMonster)) {
+            return;
+        }
+        AbstractMonster monster = (AbstractMonster) ragdoll.getAssociatedEntity();
+        // If quick despawn is enabled and timer is still at default value, reduce it
+        if (ragdollphysics.RagdollPhysics.enableQuickDespawn && monster.deathTimer > QUICK_DEATH_TIMER) {
+            monster.deathTimer = QUICK_DEATH_TIMER;
+        }
+    }
+
+    /**
+     * Monsters from a room we have since left are no longer updated by the game - drop them
+     */
+    private boolean isInCurrentRoom(AbstractMonster monster) {
+        if (AbstractDungeon.getCurrRoom() == null) {
+            return false;
+        }
+        MonsterGroup monsters = AbstractDungeon.getMonsters();
+        return monsters != null && monsters.monsters.contains(monster);
+    }
+
+    /**
+     * A player from an earlier run is no longer rendered by the game - drop them
+     */
+    private boolean isCurrentPlayer(AbstractPlayer player) {
+        return player == AbstractDungeon.player;
+    }
+
     // ================================
     // RAGDOLL LIFECYCLE MANAGEMENT
     // ================================
@@ -202,87 +365,53 @@ public class RagdollManager {
             specialHandler.handleSpecialComponents(monster);
             MultiBodyRagdoll ragdoll = factory.createRagdoll(monster, reflectionHelper);
 
+            // Null means image ragdolls are disabled - a setting, not a species defect
             if (ragdoll == null) {
                 failedRagdolls.add(monster);
                 return false;
             }
 
             if (!ragdoll.isProperlyInitialized()) {
+                validator.recordCreationFailure(monster, "Ragdoll not properly initialized");
                 failedRagdolls.add(monster);
                 return false;
             }
 
-            ragdollBodies.put(monster, ragdoll);
-            // Track creation time for timeout
-            ragdollCreationTimes.put(monster, 0f);
+            putMonsterRagdoll(monster, ragdoll);
             return true;
         } catch (Exception e) {
+            validator.recordCreationFailure(monster, e.getMessage());
             failedRagdolls.add(monster);
             return false;
         }
     }
 
     /**
-     * Updates ragdoll physics and handles death timing
+     * Step a monster ragdoll and handle death timing
      */
-    private SpireReturn<Void> updateRagdollLogic(AbstractMonster monster) {
-        MultiBodyRagdoll ragdoll = ragdollBodies.get(monster);
+    private void tickMonster(AbstractMonster monster, MultiBodyRagdoll ragdoll) {
+        if (!isInCurrentRoom(monster)) {
+            cleanupMonsterState(monster);
+            return;
+        }
 
         try {
-            if (ragdoll != null) {
-                // Update ragdoll age
-                updateRagdollAge(monster);
-
-                updateRagdollPhysics(monster, ragdoll);
-                handleExploderLogic(monster, ragdoll);
-
-                // Check for timeout before normal settling logic
-                if (hasRagdollTimedOut(monster)) {
-                    forceRagdollFadeout(monster);
-                } else {
-                    updateDeathTimer(monster, ragdoll);
-                }
-            } else {
-                monster.deathTimer -= Gdx.graphics.getDeltaTime();
-            }
-
+            updateRagdollPhysics(monster, ragdoll);
+            dispatchStateChanges(ragdoll);
+            handleExploderLogic(monster, ragdoll);
+            updateDeathTimer(monster, ragdoll);
             handleTintFadeout(monster);
 
             if (monster.deathTimer < 0.0f) {
                 completeMonsterDeath(monster);
             }
-
-            return SpireReturn.Return();
         } catch (Exception e) {
-            // Remove failed ragdoll and fall back
-            ragdollBodies.remove(monster);
+            // Remove failed ragdoll - the death patch falls back to the default death from next frame
+            removeMonsterRagdoll(monster);
             failedRagdolls.add(monster);
-            return fallbackToDefaultDeath(monster);
         }
     }
 
-    private void updateRagdollAge(AbstractMonster monster) {
-        Float currentAge = ragdollCreationTimes.get(monster);
-        if (currentAge != null) {
-            ragdollCreationTimes.put(monster, currentAge + Gdx.graphics.getDeltaTime());
-        }
-    }
-
-    private boolean hasRagdollTimedOut(AbstractMonster monster) {
-        Float ragdollAge = ragdollCreationTimes.get(monster);
-        return ragdollAge != null && ragdollAge >= RAGDOLL_TIMEOUT;
-    }
-
-    private void forceRagdollFadeout(AbstractMonster monster) {
-        // Force the death timer to start ticking regardless of settle state
-        monster.deathTimer -= Gdx.graphics.getDeltaTime();
-
-        // Optional: Add some visual indication that timeout occurred
-        // You could add a special effect or log message here if desired
-    }
-
-
-
     /**
      * Update ragdoll physics and apply to monster
      */
@@ -297,12 +426,8 @@ public class RagdollManager {
      * Update death timer based on ragdoll state
      */
     private void updateDeathTimer(AbstractMonster monster, MultiBodyRagdoll ragdoll) {
-        // Only advance death timer if ragdoll has settled
-        if (ragdoll.hasSettledOnGround()) {
-            // If quick despawn is enabled and timer is still at default value, reduce it
-            if (ragdollphysics.RagdollPhysics.enableQuickDespawn && monster.deathTimer > QUICK_DEATH_TIMER) {
-                monster.deathTimer = QUICK_DEATH_TIMER;
-            }
+        // Only advance death timer once the ragdoll has settled (or timed out trying), or was recycled
+        if (ragdoll.getState().isAtLeast(RagdollState.SETTLED) || recycledRagdolls.contains(monster)) {
             monster.deathTimer -= Gdx.graphics.getDeltaTime();
         }
     }
@@ -342,14 +467,32 @@ public class RagdollManager {
      * Clean up all tracking data for a monster
      */
     private void cleanupMonsterState(AbstractMonster monster) {
-        ragdollBodies.remove(monster);
+        removeMonsterRagdoll(monster);
         failedRagdolls.remove(monster);
+        recycledRagdolls.remove(monster);
         exploderTimers.remove(monster);
         explodedExploders.remove(monster);
-        ragdollCreationTimes.remove(monster); // Add this line
         OverkillTracker.cleanup(monster);
     }
 
+    /**
+     * Store a monster ragdoll and flag the monster so render patches take the slow path
+     */
+    private void putMonsterRagdoll(AbstractMonster monster, MultiBodyRagdoll ragdoll) {
+        ragdollBodies.put(monster, ragdoll);
+        activeRagdolls.add(ragdoll);
+        RagdollFields.hasRagdoll.set(monster, true);
+    }
+
+    private void removeMonsterRagdoll(AbstractMonster monster) {
+        MultiBodyRagdoll ragdoll = ragdollBodies.remove(monster);
+        if (ragdoll != null) {
+            activeRagdolls.remove(ragdoll);
+            ragdollStateListeners.remove(ragdoll);
+        }
+        RagdollFields.hasRagdoll.set(monster, false);
+    }
+
     // ================================
     // PLAYER RAGDOLL LIFECYCLE MANAGEMENT
     // ================================
@@ -374,7 +517,7 @@ public class RagdollManager {
                 return false;
             }
 
-            playerRagdollBodies.put(player, ragdoll);
+            putPlayerRagdoll(player, ragdoll);
             return true;
         } catch (Exception e) {
             failedPlayerRagdolls.add(player);
@@ -382,22 +525,37 @@ public class RagdollManager {
         }
     }
 
+    private void putPlayerRagdoll(AbstractPlayer player, MultiBodyRagdoll ragdoll) {
+        playerRagdollBodies.put(player, ragdoll);
+        activeRagdolls.add(ragdoll);
+        RagdollFields.hasRagdoll.set(player, true);
+    }
+
+    private void removePlayerRagdoll(AbstractPlayer player) {
+        MultiBodyRagdoll ragdoll = playerRagdollBodies.remove(player);
+        if (ragdoll != null) {
+            activeRagdolls.remove(ragdoll);
+            ragdollStateListeners.remove(ragdoll);
+        }
+        RagdollFields.hasRagdoll.set(player, false);
+    }
+
     /**
-     * Updates player ragdoll physics
+     * Step a player ragdoll - kept running through the death screen
      */
-    public SpireReturn<Void> updatePlayerRagdollLogic(AbstractPlayer player) {
-        MultiBodyRagdoll ragdoll = playerRagdollBodies.get(player);
+    private void tickPlayer(AbstractPlayer player, MultiBodyRagdoll ragdoll) {
+        if (!isCurrentPlayer(player)) {
+            cleanupPlayerRagdoll(player);
+            return;
+        }
 
         try {
-            if (ragdoll != null) {
-                updatePlayerRagdollPhysics(player, ragdoll);
-            }
-            return SpireReturn.Return();
+            updatePlayerRagdollPhysics(player, ragdoll);
+            dispatchStateChanges(ragdoll);
         } catch (Exception e) {
-            // Remove failed ragdoll and fall back
-            playerRagdollBodies.remove(player);
+            // Remove failed ragdoll - the player renders normally again
+            removePlayerRagdoll(player);
             failedPlayerRagdolls.add(player);
-            return fallbackToDefaultPlayerDeath(player);
         }
     }
 
@@ -510,8 +668,9 @@ public class RagdollManager {
      * Force cleanup of a specific monster's ragdoll
      */
     public void cleanupRagdoll(AbstractMonster monster) {
-        ragdollBodies.remove(monster);
+        removeMonsterRagdoll(monster);
         failedRagdolls.remove(monster);
+        recycledRagdolls.remove(monster);
         exploderTimers.remove(monster);
         explodedExploders.remove(monster);
     }
@@ -520,7 +679,7 @@ public class RagdollManager {
      * Force cleanup of a specific player's ragdoll
      */
     public void cleanupPlayerRagdoll(AbstractPlayer player) {
-        playerRagdollBodies.remove(player);
+        removePlayerRagdoll(player);
         failedPlayerRagdolls.remove(player);
         OverkillTracker.cleanup(player); // If you track overkill for players too
     }
@@ -551,7 +710,7 @@ public class RagdollManager {
      */
     public void markRagdollFailed(AbstractMonster monster) {
         failedRagdolls.add(monster);
-        ragdollBodies.remove(monster);
+        removeMonsterRagdoll(monster);
     }
 
     /**
@@ -562,15 +721,58 @@ public class RagdollManager {
     }
 
     /**
-     * Complete cleanup - removes all ragdolls and failed markers
+     * Complete cleanup - removes all monster and player ragdolls and failed markers
      */
     public void cleanupAll() {
+        for (AbstractMonster monster : ragdollBodies.keySet()) {
+            RagdollFields.hasRagdoll.set(monster, false);
+        }
+        for (AbstractPlayer player : playerRagdollBodies.keySet()) {
+            RagdollFields.hasRagdoll.set(player, false);
+        }
+        activeRagdolls.removeAll(ragdollBodies.values());
+        activeRagdolls.removeAll(playerRagdollBodies.values());
+        ragdollStateListeners.keySet().removeAll(ragdollBodies.values());
+        ragdollStateListeners.keySet().removeAll(playerRagdollBodies.values());
         ragdollBodies.clear();
+        playerRagdollBodies.clear();
         failedRagdolls.clear();
+        failedPlayerRagdolls.clear();
+        recycledRagdolls.clear();
         exploderTimers.clear();
         explodedExploders.clear();
     }
 
+    /**
+     * Register a listener for ragdoll settle transitions
+     */
+    public void addStateListener(StateListener listener) {
+        stateListeners.add(listener);
+    }
+
+    public void removeStateListener(StateListener listener) {
+        stateListeners.remove(listener);
+    }
+
+    /**
+     * Register a listener for one ragdoll's transitions. It is released automatically when the
+     * ragdoll is cleaned up or falls asleep, so owners that are dropped without notice
+     * (cleared action queues and effect lists) do not leak.
+     */
+    public void addStateListener(MultiBodyRagdoll ragdoll, StateListener listener) {
+        ragdollStateListeners.computeIfAbsent(ragdoll, key -> new ArrayList<>()).add(listener);
+    }
+
+    public void removeStateListener(MultiBodyRagdoll ragdoll, StateListener listener) {
+        ArrayList<StateListener> scoped = ragdollStateListeners.get(ragdoll);
+        if (scoped != null) {
+            scoped.remove(listener);
+            if (scoped.isEmpty()) {
+                ragdollStateListeners.remove(ragdoll);
+            }
+        }
+    }
+
     /**
      * Check if a player currently has an active ragdoll
      */
@@ -590,7 +792,7 @@ public class RagdollManager {
      */
     public void markPlayerRagdollFailed(AbstractPlayer player) {
         failedPlayerRagdolls.add(player);
-        playerRagdollBodies.remove(player);
+        removePlayerRagdoll(player);
     }
 
     /**
@@ -600,6 +802,8 @@ public class RagdollManager {
         return new RagdollStats(
                 ragdollBodies.size(),
                 failedRagdolls.size(),
+                recycledRagdollCount,
+                recycledDebrisCount,
                 System.currentTimeMillis() - creationTime
         );
     }
@@ -613,18 +817,23 @@ public class RagdollManager {
     public static class RagdollStats {
         public final int activeRagdolls;
         public final int failedMonsters;
+        public final int recycledRagdolls;
+        public final int recycledDebris;
         public final long managerAgeMs;
 
-        public RagdollStats(int activeRagdolls, int failedMonsters, long managerAgeMs) {
+        public RagdollStats(int activeRagdolls, int failedMonsters, int recycledRagdolls,
+                            int recycledDebris, long managerAgeMs) {
             this.activeRagdolls = activeRagdolls;
             this.failedMonsters = failedMonsters;
+            this.recycledRagdolls = recycledRagdolls;
+            this.recycledDebris = recycledDebris;
             this.managerAgeMs = managerAgeMs;
         }
 
         @Override
         public String toString() {
-            return String.format("RagdollStats{active=%d, failed=%d, age=%dms}",
-                    activeRagdolls, failedMonsters, managerAgeMs);
+            return String.format("RagdollStats{active=%d, failed=%d, recycled=%d, recycledDebris=%d, age=%dms}",
+                    activeRagdolls, failedMonsters, recycledRagdolls, recycledDebris, managerAgeMs);
         }
     }
 }
\ No newline at end of file
@@ -1,9 +1,7 @@
 package ragdollphysics.ragdollutil;
 
 import basemod.BaseMod;
-import com.badlogic.gdx.math.MathUtils;
 import com.megacrit.cardcrawl.core.Settings;
-import com.megacrit.cardcrawl.monsters.AbstractMonster;
 import com.megacrit.cardcrawl.monsters.city.BronzeOrb;
 
 import java.util.HashSet;
@@ -31,6 +29,8 @@ public class RagdollPhysics {
 
     private final float groundY;
     private final String physicsId;
+    private final int impactId = ImpactEvents.nextBodyId();
+    private final RagdollRandom random;
     private final boolean hasZeroGravity;
     private int updateCount = 0;
 
@@ -45,6 +45,12 @@ public class RagdollPhysics {
     private static final float LEFT_WALL_X = 50f * Settings.scale;
     private static final float CEILING_Y = 1100f * Settings.scale;
 
+    // Per-frame damping factors, converted per step size by the shared table
+    private static final DampingTable.Coefficient GROUND_LINEAR_DAMPING = DampingTable.of(0.92f);
+    private static final DampingTable.Coefficient GROUND_ANGULAR_DAMPING = DampingTable.of(0.85f);
+    private static final DampingTable.Coefficient AIR_DAMPING = DampingTable.of(0.999f);
+    private static final DampingTable.Coefficient ANGULAR_DAMPING = DampingTable.of(0.9995f);
+
 
     // ================================
     // ZERO GRAVITY CONFIGURATION
@@ -62,45 +68,17 @@ public class RagdollPhysics {
     // CONSTRUCTORS
     // ================================
 
-    /** Basic constructor without monster-specific gravity handling */
-    public RagdollPhysics(float startX, float startY, float forceX, float forceY, float groundLevel) {
-        this.x = startX;
-        this.y = startY;
-        this.velocityX = forceX;
-        this.velocityY = forceY;
-        this.groundY = groundLevel;
-        this.rotation = 0f;
-        this.angularVelocity = MathUtils.random(-144f, 144f);
-        this.physicsId = "Physics_" + System.currentTimeMillis() % 10000;
-        this.lastRotation = 0f;
-        this.totalRotationDegrees = 0f;
-        this.hasZeroGravity = false; // Default constructor doesn't know about monster type
-    }
-
-    /** Constructor with monster instance for gravity determination */
-    public RagdollPhysics(float startX, float startY, float forceX, float forceY, float groundLevel, AbstractMonster monster) {
-        this.x = startX;
-        this.y = startY;
-        this.velocityX = forceX;
-        this.velocityY = forceY;
-        this.groundY = groundLevel;
-        this.rotation = 0f;
-        this.angularVelocity = MathUtils.random(-144f, 144f);
-        this.physicsId = "Physics_" + System.currentTimeMillis() % 10000;
-        this.lastRotation = 0f;
-        this.totalRotationDegrees = 0f;
-        this.hasZeroGravity = ZERO_GRAVITY_ENEMIES.contains(monster.id);
-    }
-
-    /** Constructor with monster class name for gravity determination */
-    public RagdollPhysics(float startX, float startY, float forceX, float forceY, float groundLevel, String monsterClassName) {
+    /** Constructor with monster class name for gravity determination, drawing from the owning ragdoll's random stream */
+    public RagdollPhysics(float startX, float startY, float forceX, float forceY, float groundLevel,
+                          String monsterClassName, RagdollRandom random) {
+        this.random = random;
         this.x = startX;
         this.y = startY;
         this.velocityX = forceX;
         this.velocityY = forceY;
         this.groundY = groundLevel;
         this.rotation = 0f;
-        this.angularVelocity = MathUtils.random(-144f, 144f);
+        this.angularVelocity = random.random(-144f, 144f);
         this.physicsId = "Physics_" + System.currentTimeMillis() % 10000;
         this.lastRotation = 0f;
         this.totalRotationDegrees = 0f;
@@ -122,7 +100,7 @@ public class RagdollPhysics {
         // Update position based on velocity
         x += velocityX * deltaTime;
         y += velocityY * deltaTime;
-        rotation += angularVelocity * deltaTime;
+        rotation = AngleMath.normalize(rotation + angularVelocity * deltaTime);
 
         // Enhanced rotation while airborne
         applyAirborneRotationBoost(deltaTime);
@@ -191,22 +169,25 @@ public class RagdollPhysics {
     /** Handle collision with a wall */
     private void handleWallCollision(float wallX, float bounceMultiplier) {
         x = wallX;
+        ImpactEvents.push(impactId, ImpactEvents.SOURCE_BODY, ImpactEvents.WALL, x, y,
+                Math.abs(velocityX) * (1f - bounceMultiplier));
         velocityX *= bounceMultiplier;
         velocityY *= 0.7f;
 
         // Add rotational effect from wall impact
         float wallImpactIntensity = Math.abs(velocityX) / 800f;
-        angularVelocity += MathUtils.random(-90f, 90f) * (1.0f + wallImpactIntensity * 0.3f);
+        angularVelocity += random.random(-90f, 90f) * (1.0f + wallImpactIntensity * 0.3f);
     }
 
     /** Handle collision with ceiling */
     private void handleCeilingCollision() {
         y = CEILING_Y;
+        ImpactEvents.push(impactId, ImpactEvents.SOURCE_BODY, ImpactEvents.CEILING, x, y, Math.abs(velocityY) * 1.6f);
         velocityY *= -0.6f; // Bounce downward with energy loss
 
         // Add rotational effect from ceiling impact
         float ceilingImpactIntensity = Math.abs(velocityY) / 600f;
-        angularVelocity += MathUtils.random(-120f, 120f) * (1.0f + ceilingImpactIntensity * 0.4f);
+        angularVelocity += random.random(-120f, 120f) * (1.0f + ceilingImpactIntensity * 0.4f);
     }
 
     /** Handle ground collision with bouncing and settling behavior */
@@ -216,14 +197,16 @@ public class RagdollPhysics {
 
             if (Math.abs(velocityY) > SIMPLE_BOUNCE_THRESHOLD) {
                 // High-energy bounce
+                ImpactEvents.push(impactId, ImpactEvents.SOURCE_BODY, ImpactEvents.GROUND, x, groundY,
+                        Math.abs(velocityY) * 1.4f);
                 velocityY = Math.abs(velocityY) * 0.4f;
                 velocityX *= 0.8f;
                 angularVelocity *= 0.6f;
             } else {
                 // Low-energy settle with ground friction
                 velocityY = 0f;
-                velocityX *= (float) Math.pow(0.92, deltaTime * 60f);
-                angularVelocity *= (float) Math.pow(0.85, deltaTime * 60f);
+                velocityX *= GROUND_LINEAR_DAMPING.at(deltaTime);
+                angularVelocity *= GROUND_ANGULAR_DAMPING.at(deltaTime);
             }
         }
     }
@@ -236,23 +219,18 @@ public class RagdollPhysics {
     /** Apply air resistance and general damping effects */
     private void applyDamping(float deltaTime) {
         // Frame-rate independent air resistance
-        velocityX *= (float) Math.pow(0.999, deltaTime * 60f);
+        velocityX *= AIR_DAMPING.at(deltaTime);
 
         // Air damping for angular velocity (only when airborne)
         if (y > groundY) {
-            angularVelocity *= (float) Math.pow(0.999, deltaTime * 60f);
+            angularVelocity *= AIR_DAMPING.at(deltaTime);
         }
     }
 
     /** Limit excessive rotation when ragdoll is settling on ground */
     private void applyRotationLimiting(float deltaTime) {
-        float rotationDelta = rotation - lastRotation;
-
-        // Normalize rotation delta to [-180, 180] range
-        if (rotationDelta > 180f)
-            rotationDelta -= 360f;
-        else if (rotationDelta < -180f)
-            rotationDelta += 360f;
+        // Rotation is kept in [0, 360), so wrap the delta across the seam
+        float rotationDelta = AngleMath.wrapDelta(rotation - lastRotation);
 
         boolean isActuallyOnGround = y <= groundY + 1f;
         boolean hasVeryLowMomentum = Math.abs(velocityX) + Math.abs(velocityY) < 150f;
@@ -273,7 +251,7 @@ public class RagdollPhysics {
             }
 
             // Frame-rate independent general angular damping
-            angularVelocity *= (float) Math.pow(0.9995, deltaTime * 60f);
+            angularVelocity *= ANGULAR_DAMPING.at(deltaTime);
         }
 
         lastRotation = rotation;
@@ -284,11 +262,15 @@ public class RagdollPhysics {
     // PUBLIC UTILITY METHODS
     // ================================
 
+    /** Check if the ragdoll is resting on or bouncing off the ground */
+    public boolean isTouchingGround() {
+        return y <= groundY + 10f;
+    }
+
     /** Check if the ragdoll has settled and stopped moving */
     public boolean hasSettledOnGround() {
         float totalMomentum = Math.abs(velocityX) + Math.abs(velocityY) + Math.abs(angularVelocity) / 10f;
         boolean isLowMomentum = totalMomentum < 25f;
-        boolean isNearGround = y <= groundY + 10f;
-        return isLowMomentum && isNearGround;
+        return isLowMomentum && isTouchingGround();
     }
 }
\ No newline at end of file
@@ -0,0 +1,88 @@
+package ragdollphysics.ragdollutil;
+
+import com.megacrit.cardcrawl.characters.AbstractPlayer;
+import com.megacrit.cardcrawl.core.AbstractCreature;
+import com.megacrit.cardcrawl.core.Settings;
+import com.megacrit.cardcrawl.dungeons.AbstractDungeon;
+import com.megacrit.cardcrawl.monsters.AbstractMonster;
+
+import java.util.SplittableRandom;
+
+/**
+ * Random stream owned by a single ragdoll.
+ * Seeded from the run seed, floor and monster index so the same death plays out
+ * the same way every time, and never shared between ragdolls.
+ */
+public class RagdollRandom {
+
+    // ================================
+    // SEEDING CONSTANTS
+    // ================================
+
+    private static final long SEED_MIX = 0x9E3779B97F4A7C15L;
+    private static final int PLAYER_INDEX = -1;
+    private static final float FLOAT_UNIT = 0x1.0p-24f;
+
+    // ================================
+    // STATE
+    // ================================
+
+    private final SplittableRandom random;
+
+    // ================================
+    // CONSTRUCTORS
+    // ================================
+
+    public RagdollRandom(long seed) {
+        this.random = new SplittableRandom(seed);
+    }
+
+    private RagdollRandom(SplittableRandom random) {
+        this.random = random;
+    }
+
+    /**
+     * Create the stream for a creature from the run seed, floor and its slot in the monster group
+     */
+    public static RagdollRandom forEntity(AbstractCreature entity) {
+        long runSeed = Settings.seed != null ? Settings.seed : 0L;
+        int entityIndex = getEntityIndex(entity);
+        String className = entity != null ? entity.getClass().getName() : "";
+
+        long seed = runSeed;
+        seed = seed * SEED_MIX + AbstractDungeon.floorNum;
+        seed = seed * SEED_MIX + entityIndex;
+        seed = seed * SEED_MIX + className.hashCode();
+        return new RagdollRandom(seed);
+    }
+
+    private static int getEntityIndex(AbstractCreature entity) {
+        if (entity instanceof AbstractPlayer) {
+            return PLAYER_INDEX;
+        }
+        if (entity instanceof AbstractMonster && AbstractDungeon.currMapNode != null
+                && AbstractDungeon.getCurrRoom() != null && AbstractDungeon.getMonsters() != null) {
+            return AbstractDungeon.getMonsters().monsters.indexOf(entity);
+        }
+        return 0;
+    }
+
+    // ================================
+    // RANDOM VALUES
+    // ================================
+
+    /** Random float in [0, 1) */
+    public float random() {
+        return (random.nextInt() >>> 8) * FLOAT_UNIT;
+    }
+
+    /** Random float in [start, end) - same contract as MathUtils.random(start, end) */
+    public float random(float start, float end) {
+        return start + random() * (end - start);
+    }
+
+    /** Independent child stream, used to give each attachment body its own sequence */
+    public RagdollRandom split() {
+        return new RagdollRandom(random.split());
+    }
+}
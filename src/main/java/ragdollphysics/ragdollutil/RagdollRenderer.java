@@ -7,6 +7,7 @@ import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.esotericsoftware.spine.Skeleton;
 import com.esotericsoftware.spine.SkeletonRenderer;
 import com.megacrit.cardcrawl.characters.AbstractPlayer;
+import com.megacrit.cardcrawl.core.AbstractCreature;
 import com.megacrit.cardcrawl.core.CardCrawlGame;
 import com.megacrit.cardcrawl.core.Settings;
 import com.megacrit.cardcrawl.dungeons.AbstractDungeon;
@@ -40,12 +41,21 @@ public class RagdollRenderer {
         }
 
         try {
-            // Determine rendering path based on monster type
-            TextureAtlas atlas = reflectionHelper.getAtlas(monster);
-            if (atlas == null) {
-                renderImageBased(monster, sb, ragdoll, reflectionHelper);
-            } else {
-                renderSkeletonBased(monster, sb, ragdoll, reflectionHelper, atlas);
+            // Skip drawing ragdolls whose bounds are entirely off screen
+            if (ragdoll.isInView()) {
+                // Determine rendering path based on monster type
+                ensureRenderComponents(monster, ragdoll, reflectionHelper);
+                TextureAtlas atlas = ragdoll.getCachedAtlas();
+                beginStats(ragdoll, sb);
+                try {
+                    if (atlas == null) {
+                        renderImageBased(monster, sb, ragdoll, reflectionHelper);
+                    } else {
+                        renderSkeletonBased(monster, sb, ragdoll, reflectionHelper, atlas);
+                    }
+                } finally {
+                    RenderStats.endRagdoll();
+                }
             }
 
             // Render health and name if player is alive
@@ -59,6 +69,31 @@ public class RagdollRenderer {
         }
     }
 
+    /**
+     * Resolve atlas, skeleton, renderer and image once per ragdoll instead of every frame
+     */
+    private void ensureRenderComponents(AbstractCreature creature, MultiBodyRagdoll ragdoll,
+                                        ReflectionHelper reflectionHelper) throws IllegalAccessException {
+        if (ragdoll.hasCachedRenderComponents()) {
+            return;
+        }
+        ragdoll.cacheRenderComponents(
+                reflectionHelper.getAtlas(creature),
+                reflectionHelper.getSkeleton(creature),
+                reflectionHelper.getSkeletonRenderer(creature),
+                reflectionHelper.getImage(creature));
+    }
+
+    /**
+     * Open a RenderStats scope for this ragdoll - no allocation while stats are disabled
+     */
+    private void beginStats(MultiBodyRagdoll ragdoll, SpriteBatch sb) {
+        if (RenderStats.enabled) {
+            RenderStats.beginRagdoll(ragdoll.getRagdollId(), BatchCounters.of(sb),
+                    BatchCounters.of(CardCrawlGame.psb));
+        }
+    }
+
     // ================================
     // PLAYER RENDERING ENTRY POINTS
     // ================================
@@ -73,12 +108,21 @@ public class RagdollRenderer {
         }
 
         try {
-            // Determine rendering path based on player type
-            TextureAtlas atlas = reflectionHelper.getAtlas(player);
-            if (atlas == null) {
-                renderPlayerImageBased(player, sb, ragdoll, reflectionHelper);
-            } else {
-                renderPlayerSkeletonBased(player, sb, ragdoll, reflectionHelper, atlas);
+            // Skip drawing ragdolls whose bounds are entirely off screen
+            if (ragdoll.isInView()) {
+                // Determine rendering path based on player type
+                ensureRenderComponents(player, ragdoll, reflectionHelper);
+                TextureAtlas atlas = ragdoll.getCachedAtlas();
+                beginStats(ragdoll, sb);
+                try {
+                    if (atlas == null) {
+                        renderPlayerImageBased(player, sb, ragdoll, reflectionHelper);
+                    } else {
+                        renderPlayerSkeletonBased(player, sb, ragdoll, reflectionHelper, atlas);
+                    }
+                } finally {
+                    RenderStats.endRagdoll();
+                }
             }
 
             // Render health bar if in combat
@@ -97,18 +141,24 @@ public class RagdollRenderer {
      */
     public void renderPlayerImage(AbstractPlayer player, SpriteBatch sb, MultiBodyRagdoll ragdoll,
                                   ReflectionHelper reflectionHelper) throws Exception {
-        // Skip rendering if player has completely faded out
-        if (player.tint.color.a <= 0) {
+        // Skip rendering if player has completely faded out or is entirely off screen
+        if (player.tint.color.a <= 0 || !ragdoll.isInView()) {
             return;
         }
 
         try {
             // Check if we have a skeleton to render
-            TextureAtlas atlas = reflectionHelper.getAtlas(player);
-            if (atlas != null) {
-                renderPlayerSkeletonOnly(player, sb, ragdoll, reflectionHelper, atlas);
-            } else {
-                renderPlayerImageBased(player, sb, ragdoll, reflectionHelper);
+            ensureRenderComponents(player, ragdoll, reflectionHelper);
+            TextureAtlas atlas = ragdoll.getCachedAtlas();
+            beginStats(ragdoll, sb);
+            try {
+                if (atlas != null) {
+                    renderPlayerSkeletonOnly(player, sb, ragdoll, reflectionHelper, atlas);
+                } else {
+                    renderPlayerImageBased(player, sb, ragdoll, reflectionHelper);
+                }
+            } finally {
+                RenderStats.endRagdoll();
             }
         } catch (Exception e) {
             throw e;
@@ -124,15 +174,14 @@ public class RagdollRenderer {
     /** Render monsters with Spine skeleton animations */
     private void renderSkeletonBased(AbstractMonster monster, SpriteBatch sb, MultiBodyRagdoll ragdoll,
                                      ReflectionHelper reflectionHelper, TextureAtlas atlas) throws Exception {
-        Skeleton skeleton = reflectionHelper.getSkeleton(monster);
-        SkeletonRenderer sr = reflectionHelper.getSkeletonRenderer(monster);
+        Skeleton skeleton = ragdoll.getCachedSkeleton();
+        SkeletonRenderer sr = ragdoll.getCachedSkeletonRenderer();
         if (skeleton == null || sr == null) {
             return;
         }
 
-        // Apply ragdoll physics to skeleton bones and update transforms
+        // Apply ragdoll physics to skeleton bones (also brings world transforms up to date)
         ragdoll.applyToBones(skeleton, monster);
-        skeleton.updateWorldTransform();
 
         // Apply monster visual properties
         skeleton.setColor(monster.tint.color);
@@ -141,9 +190,11 @@ public class RagdollRenderer {
         // Switch to polygon sprite batch for skeleton rendering
         sb.end();
         CardCrawlGame.psb.begin();
+        RenderStats.recordBatchSwap();
 
         // Render skeleton and detached attachments
         sr.draw(CardCrawlGame.psb, skeleton);
+        RenderStats.recordSkeleton(skeleton);
         ragdoll.renderDetachedAttachments(CardCrawlGame.psb, atlas, monster);
 
         // Switch back to normal sprite batch
@@ -161,16 +212,15 @@ public class RagdollRenderer {
     /** Render players with Spine skeleton animations */
     private void renderPlayerSkeletonBased(AbstractPlayer player, SpriteBatch sb, MultiBodyRagdoll ragdoll,
                                            ReflectionHelper reflectionHelper, TextureAtlas atlas) throws Exception {
-        Skeleton skeleton = reflectionHelper.getSkeleton(player);
-        SkeletonRenderer sr = reflectionHelper.getSkeletonRenderer(player);
+        Skeleton skeleton = ragdoll.getCachedSkeleton();
+        SkeletonRenderer sr = ragdoll.getCachedSkeletonRenderer();
 
         if (skeleton == null || sr == null) {
             return;
         }
 
-        // Apply ragdoll physics to skeleton bones and update transforms
+        // Apply ragdoll physics to skeleton bones (also brings world transforms up to date)
         ragdoll.applyToBones(skeleton, player);
-        skeleton.updateWorldTransform();
 
         // Apply player visual properties
         skeleton.setColor(player.tint.color);
@@ -179,9 +229,11 @@ public class RagdollRenderer {
         // Switch to polygon sprite batch for skeleton rendering
         sb.end();
         CardCrawlGame.psb.begin();
+        RenderStats.recordBatchSwap();
 
         // Render skeleton and detached attachments
         sr.draw(CardCrawlGame.psb, skeleton);
+        RenderStats.recordSkeleton(skeleton);
         ragdoll.renderDetachedAttachments(CardCrawlGame.psb, atlas, player);
 
         // Switch back to normal sprite batch
@@ -196,16 +248,15 @@ public class RagdollRenderer {
     /** Render only the skeleton part (for renderPlayerImage patch) */
     private void renderPlayerSkeletonOnly(AbstractPlayer player, SpriteBatch sb, MultiBodyRagdoll ragdoll,
                                           ReflectionHelper reflectionHelper, TextureAtlas atlas) throws Exception {
-        Skeleton skeleton = reflectionHelper.getSkeleton(player);
-        SkeletonRenderer sr = reflectionHelper.getSkeletonRenderer(player);
+        Skeleton skeleton = ragdoll.getCachedSkeleton();
+        SkeletonRenderer sr = ragdoll.getCachedSkeletonRenderer();
 
         if (skeleton == null || sr == null) {
             return;
         }
 
-        // Apply ragdoll physics to skeleton bones and update transforms
+        // Apply ragdoll physics to skeleton bones (also brings world transforms up to date)
         ragdoll.applyToBones(skeleton, player);
-        skeleton.updateWorldTransform();
 
         // Apply player visual properties
         skeleton.setColor(player.tint.color);
@@ -214,9 +265,11 @@ public class RagdollRenderer {
         // Switch to polygon sprite batch for skeleton rendering
         sb.end();
         CardCrawlGame.psb.begin();
+        RenderStats.recordBatchSwap();
 
         // Render skeleton and detached attachments
         sr.draw(CardCrawlGame.psb, skeleton);
+        RenderStats.recordSkeleton(skeleton);
         ragdoll.renderDetachedAttachments(CardCrawlGame.psb, atlas, player);
 
         // Switch back to normal sprite batch
@@ -236,7 +289,7 @@ public class RagdollRenderer {
     /** Render monsters using static images (like Hexaghost) */
     private void renderImageBased(AbstractMonster monster, SpriteBatch sb, MultiBodyRagdoll ragdoll,
                                   ReflectionHelper reflectionHelper) throws Exception {
-        Texture img = reflectionHelper.getImage(monster);
+        Texture img = ragdoll.getCachedImage();
         if (img == null) {
             return;
         }
@@ -276,7 +329,7 @@ public class RagdollRenderer {
     /** Render players using static images */
     private void renderPlayerImageBased(AbstractPlayer player, SpriteBatch sb, MultiBodyRagdoll ragdoll,
                                         ReflectionHelper reflectionHelper) throws Exception {
-        Texture img = reflectionHelper.getImage(player);
+        Texture img = ragdoll.getCachedImage();
         if (img == null) {
             return;
         }
@@ -0,0 +1,20 @@
+package ragdollphysics.ragdollutil;
+
+/**
+ * Settle progression of a ragdoll. States only ever advance, and RagdollManager notifies its
+ * state listeners once for each state entered, in order.
+ */
+public enum RagdollState {
+    /** Falling or thrown, has not reached the ground yet */
+    AIRBORNE,
+    /** Has touched the ground but is still tumbling */
+    CONTACT,
+    /** The body has come to rest (or ran out of time to) - death timers start here */
+    SETTLED,
+    /** The body and all detached debris have stayed at rest for a while */
+    ASLEEP;
+
+    public boolean isAtLeast(RagdollState other) {
+        return ordinal() >= other.ordinal();
+    }
+}
@@ -0,0 +1,185 @@
+package ragdollphysics.ragdollutil;
+
+import com.badlogic.gdx.utils.Array;
+import com.esotericsoftware.spine.BoneData;
+import com.esotericsoftware.spine.Skeleton;
+import com.esotericsoftware.spine.SkeletonData;
+import com.esotericsoftware.spine.SlotData;
+
+import java.lang.ref.WeakReference;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Static, pose-independent ragdoll data for one skeleton and entity name.
+ * Everything here depends only on SkeletonData and the config tables, so it is built
+ * off the render thread when the creature enters combat (see RagdollTemplateCache) and
+ * the death frame only has to apply dynamic state: pose, overkill rolls and forces.
+ *
+ * Attachment names are snapshotted on the render thread because Spine skins are not
+ * safe to read concurrently. Names seen for the first time at death fall back to the
+ * live AttachmentConfig checks.
+ */
+public final class RagdollTemplate {
+
+    // Weak: RagdollTemplateCache keys templates on their SkeletonData, which must stay collectable
+    private final WeakReference<SkeletonData> skeletonData;
+    private final String entityName;
+
+    // Per bone, indexed in SkeletonData (and Skeleton) bone order
+    private final int[] chainDepth;
+    private final boolean[] anatomicalLimb;
+    private final int[][] boneSlots;
+
+    // Per slot, indexed in SkeletonData (and Skeleton.getSlots) order
+    private final int[] slotBoneIndex;
+
+    // Per attachment name
+    private final Map<String, AttachmentConfig.DetachRule> detachRules;
+    private final Map<String, Set<String>> parentCandidates;
+
+    // ================================
+    // CONSTRUCTION
+    // ================================
+
+    private RagdollTemplate(SkeletonData skeletonData, String entityName, String[] attachmentNames) {
+        this.skeletonData = new WeakReference<>(skeletonData);
+        this.entityName = entityName;
+
+        Array<BoneData> bones = skeletonData.getBones();
+        Array<SlotData> slots = skeletonData.getSlots();
+        int boneCount = bones.size;
+        int slotCount = slots.size;
+
+        Map<BoneData, Integer> boneIndices = new IdentityHashMap<>();
+        for (int i = 0; i < boneCount; i++) {
+            boneIndices.put(bones.get(i), i);
+        }
+
+        this.chainDepth = new int[boneCount];
+        this.anatomicalLimb = new boolean[boneCount];
+        for (int i = 0; i < boneCount; i++) {
+            BoneData bone = bones.get(i);
+            int depth = 0;
+            for (BoneData parent = bone.getParent(); parent != null; parent = parent.getParent()) {
+                depth++;
+            }
+            chainDepth[i] = depth;
+            anatomicalLimb[i] = BoneWobble.isAnatomicalLimbName(bone.getName().toLowerCase());
+        }
+
+        this.slotBoneIndex = new int[slotCount];
+        int[] slotsPerBone = new int[boneCount];
+        for (int i = 0; i < slotCount; i++) {
+            Integer boneIndex = boneIndices.get(slots.get(i).getBoneData());
+            slotBoneIndex[i] = boneIndex != null ? boneIndex : -1;
+            if (boneIndex != null) {
+                slotsPerBone[boneIndex]++;
+            }
+        }
+
+        this.boneSlots = new int[boneCount][];
+        for (int i = 0; i < boneCount; i++) {
+            boneSlots[i] = new int[slotsPerBone[i]];
+            slotsPerBone[i] = 0;
+        }
+        for (int i = 0; i < slotCount; i++) {
+            int boneIndex = slotBoneIndex[i];
+            if (boneIndex >= 0) {
+                boneSlots[boneIndex][slotsPerBone[boneIndex]++] = i;
+            }
+        }
+
+        this.detachRules = new HashMap<>();
+        for (String name : attachmentNames) {
+            detachRules.put(name, AttachmentConfig.classifyAttachment(entityName, name));
+        }
+
+        this.parentCandidates = new HashMap<>();
+        for (String child : attachmentNames) {
+            Set<String> parents = new HashSet<>();
+            for (String parent : attachmentNames) {
+                if (AttachmentConfig.isChildAttachment(entityName, parent, child)) {
+                    parents.add(parent);
+                }
+            }
+            parentCandidates.put(child, parents);
+        }
+    }
+
+    /**
+     * Build a template. Safe to call off the render thread: reads only immutable
+     * SkeletonData, the static config tables and the given name snapshot.
+     */
+    static RagdollTemplate build(SkeletonData skeletonData, String entityName, String[] attachmentNames) {
+        return new RagdollTemplate(skeletonData, entityName, attachmentNames);
+    }
+
+    /**
+     * Snapshot the attachment names currently shown by a skeleton - render thread only
+     */
+    static String[] snapshotAttachmentNames(Skeleton skeleton) {
+        Set<String> names = new HashSet<>();
+        for (int i = 0; i < skeleton.getSlots().size; i++) {
+            if (skeleton.getSlots().get(i).getAttachment() != null) {
+                names.add(skeleton.getSlots().get(i).getAttachment().getName());
+            }
+        }
+        return names.toArray(new String[0]);
+    }
+
+    // ================================
+    // QUERIES
+    // ================================
+
+    /** Check the template was built for this skeleton's data and entity */
+    public boolean matches(Skeleton skeleton, String entityName) {
+        return skeleton != null && skeleton.getData() == skeletonData.get()
+                && skeleton.getBones().size == chainDepth.length
+                && this.entityName.equals(entityName);
+    }
+
+    public int getChainDepth(int boneIndex) {
+        return chainDepth[boneIndex];
+    }
+
+    public boolean isAnatomicalLimb(int boneIndex) {
+        return anatomicalLimb[boneIndex];
+    }
+
+    /** Slot indices attached to a bone, in slot order */
+    public int[] getBoneSlots(int boneIndex) {
+        return boneSlots[boneIndex];
+    }
+
+    public AttachmentConfig.DetachRule getDetachRule(String attachmentName) {
+        AttachmentConfig.DetachRule rule = detachRules.get(attachmentName);
+        return rule != null ? rule : AttachmentConfig.classifyAttachment(entityName, attachmentName);
+    }
+
+    /** Same result as AttachmentConfig.isChildAttachment, answered from the precomputed pairs */
+    public boolean isChildAttachment(String parentName, String childName) {
+        Set<String> parents = parentCandidates.get(childName);
+        if (parents == null || !detachRules.containsKey(parentName)) {
+            return AttachmentConfig.isChildAttachment(entityName, parentName, childName);
+        }
+        return parents.contains(parentName);
+    }
+
+    /**
+     * Mark which bones currently show an attachment, in one pass over the slots
+     */
+    public boolean[] findVisualBones(Skeleton skeleton) {
+        boolean[] visual = new boolean[chainDepth.length];
+        for (int i = 0; i < slotBoneIndex.length; i++) {
+            int boneIndex = slotBoneIndex[i];
+            if (boneIndex >= 0 && skeleton.getSlots().get(i).getAttachment() != null) {
+                visual[boneIndex] = true;
+            }
+        }
+        return visual;
+    }
+}
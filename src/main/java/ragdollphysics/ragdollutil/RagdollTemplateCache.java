@@ -0,0 +1,147 @@
+package ragdollphysics.ragdollutil;
+
+import basemod.BaseMod;
+import com.esotericsoftware.spine.Skeleton;
+import com.esotericsoftware.spine.SkeletonData;
+import com.megacrit.cardcrawl.characters.AbstractPlayer;
+import com.megacrit.cardcrawl.core.AbstractCreature;
+import com.megacrit.cardcrawl.monsters.AbstractMonster;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Prepares RagdollTemplates before they are needed.
+ * Creatures are pre-warmed when they enter combat; the template is built on a single
+ * daemon thread so the death frame only has to look it up. If the build has not finished
+ * by the time the creature dies, the template is built synchronously instead of waiting.
+ *
+ * The cache itself is only touched from the render thread.
+ */
+public final class RagdollTemplateCache {
+
+    private static final ExecutorService BUILDER = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "RagdollTemplateBuilder");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // Weak on SkeletonData so templates go away with the creatures that loaded them.
+    // Templates only hold their SkeletonData weakly, or the keys could never be cleared.
+    private static final Map<SkeletonData, Map<String, Future<RagdollTemplate>>> templates = new WeakHashMap<>();
+
+    private static int prewarmed = 0;
+    private static int readyHits = 0;
+    private static int synchronousBuilds = 0;
+
+    private RagdollTemplateCache() {
+    }
+
+    // ================================
+    // PRE-WARMING
+    // ================================
+
+    /**
+     * Queue a template build for a monster entering combat
+     */
+    public static void prewarm(AbstractMonster monster) {
+        prewarm(monster, monster.id);
+    }
+
+    /**
+     * Queue a template build for the player at battle start
+     */
+    public static void prewarm(AbstractPlayer player) {
+        prewarm(player, player.getClass().getSimpleName());
+    }
+
+    private static void prewarm(AbstractCreature creature, String entityName) {
+        if (entityName == null) return;
+        try {
+            Skeleton skeleton = CreatureAccessors.getSkeleton(creature);
+            if (skeleton == null || skeleton.getData() == null) return;
+
+            Map<String, Future<RagdollTemplate>> byName = templatesFor(skeleton.getData());
+            if (byName.containsKey(entityName)) return;
+
+            SkeletonData data = skeleton.getData();
+            String[] attachmentNames = RagdollTemplate.snapshotAttachmentNames(skeleton);
+            Future<RagdollTemplate> pending = BUILDER.submit(() -> RagdollTemplate.build(data, entityName, attachmentNames));
+            byName.put(entityName, pending);
+            DebrisAtlas.queue(skeleton, pending);
+            prewarmed++;
+        } catch (Exception e) {
+            BaseMod.logger.warn("Failed to pre-warm ragdoll template for " + entityName + ": " + e.getMessage());
+        }
+    }
+
+    // ================================
+    // LOOKUP
+    // ================================
+
+    /**
+     * Get the template for a skeleton, building it now if pre-warming has not finished
+     */
+    public static RagdollTemplate get(Skeleton skeleton, String entityName) {
+        Map<String, Future<RagdollTemplate>> byName = templatesFor(skeleton.getData());
+        Future<RagdollTemplate> pending = byName.get(entityName);
+
+        if (pending != null && pending.isDone()) {
+            try {
+                RagdollTemplate template = pending.get();
+                if (template.matches(skeleton, entityName)) {
+                    readyHits++;
+                    return template;
+                }
+            } catch (Exception e) {
+                // Background build failed - rebuild below
+            }
+        }
+
+        RagdollTemplate template = RagdollTemplate.build(skeleton.getData(), entityName,
+                RagdollTemplate.snapshotAttachmentNames(skeleton));
+        if (pending == null || pending.isDone()) {
+            byName.put(entityName, CompletableFuture.completedFuture(template));
+        }
+        synchronousBuilds++;
+        return template;
+    }
+
+    private static Map<String, Future<RagdollTemplate>> templatesFor(SkeletonData data) {
+        return templates.computeIfAbsent(data, key -> new HashMap<>());
+    }
+
+    // ================================
+    // STATISTICS
+    // ================================
+
+    public static CacheStats getStats() {
+        return new CacheStats(prewarmed, readyHits, synchronousBuilds);
+    }
+
+    /**
+     * Statistics about template pre-warming
+     */
+    public static class CacheStats {
+        public final int prewarmed;
+        public final int readyHits;
+        public final int synchronousBuilds;
+
+        public CacheStats(int prewarmed, int readyHits, int synchronousBuilds) {
+            this.prewarmed = prewarmed;
+            this.readyHits = readyHits;
+            this.synchronousBuilds = synchronousBuilds;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("TemplateCacheStats{prewarmed=%d, readyHits=%d, synchronousBuilds=%d}",
+                    prewarmed, readyHits, synchronousBuilds);
+        }
+    }
+}
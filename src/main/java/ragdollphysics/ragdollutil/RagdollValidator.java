@@ -2,13 +2,14 @@ package ragdollphysics.ragdollutil;
 
 import com.badlogic.gdx.graphics.Texture;
 import com.esotericsoftware.spine.Skeleton;
+import com.esotericsoftware.spine.SkeletonData;
 import com.esotericsoftware.spine.SkeletonRenderer;
 import com.megacrit.cardcrawl.characters.AbstractPlayer;
-import com.megacrit.cardcrawl.core.AbstractCreature;
 import com.megacrit.cardcrawl.monsters.AbstractMonster;
 import basemod.BaseMod;
 
-import java.lang.reflect.Field;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -16,20 +17,30 @@ import java.util.Set;
  * Determines viability based on skeleton structure, renderer availability, and previous failures.
  */
 public class RagdollValidator {
-    private static Field playerImgField;
-    private static Field imgField;
-    private static Field skeletonField;
-    private static Field srField;
+    // ================================
+    // SPECIES VERDICT CACHE
+    // ================================
+    /**
+     * Viability per monster class, keyed by skeleton signature. Every monster instance loads its
+     * own SkeletonData, so the signature is built from what instances of a species share:
+     * skeleton name and bone and slot counts.
+     */
+    private static final ClassValue<Map<String, ViabilityVerdict>> SPECIES_VERDICTS =
+            new ClassValue<Map<String, ViabilityVerdict>>() {
+                @Override
+                protected Map<String, ViabilityVerdict> computeValue(Class<?> type) {
+                    return new HashMap<>();
+                }
+            };
 
-    static {
-        initializeReflectionFields();
-    }
+    private static final String NO_SKELETON = "<no skeleton>";
 
     // ================================
     // INSTANCE VARIABLES
     // ================================
     private final String validatorId;
     private int validationCount = 0;
+    private int cachedVerdictHits = 0;
 
     // ================================
     // CONSTRUCTOR
@@ -38,35 +49,6 @@ public class RagdollValidator {
         this.validatorId = "Validator_" + System.currentTimeMillis() % 10000;
     }
 
-    // ================================
-    // REFLECTION INITIALIZATION
-    // ================================
-    /** Initialize reflection fields for accessing monster components */
-    private static void initializeReflectionFields() {
-        try {
-            imgField = AbstractMonster.class.getDeclaredField("img");
-            imgField.setAccessible(true);
-            skeletonField = AbstractCreature.class.getDeclaredField("skeleton");
-            skeletonField.setAccessible(true);
-            srField = AbstractCreature.class.getDeclaredField("sr");
-            srField.setAccessible(true);
-
-            String[] possiblePlayerImageFields = {"img", "image", "texture", "playerImg", "characterImg"};
-            for (String fieldName : possiblePlayerImageFields) {
-                try {
-                    Field field = AbstractPlayer.class.getDeclaredField(fieldName);
-                    field.setAccessible(true);
-                    playerImgField = field;
-                    break;
-                } catch (NoSuchFieldException e) {
-                    // Continue to next field name
-                }
-            }
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
-    }
-
     // ================================
     // MAIN VALIDATION METHODS
     // ================================
@@ -74,6 +56,7 @@ public class RagdollValidator {
     public boolean isRagdollViable(AbstractMonster monster, Set<AbstractMonster> failedRagdolls) {
         validationCount++;
         String monsterName = monster.getClass().getSimpleName();
+        String signature = NO_SKELETON;
 
         try {
             // Quick check: if this monster has failed before, don't try again
@@ -81,25 +64,65 @@ public class RagdollValidator {
                 return false;
             }
 
+            // Species check: another instance of this class and skeleton already decided it
+            signature = getSkeletonSignature(monster);
+            ViabilityVerdict cached = getCachedVerdict(monster.getClass(), signature);
+            if (cached != null) {
+                cachedVerdictHits++;
+                if (!cached.viable) {
+                    failedRagdolls.add(monster);
+                }
+                return cached.viable;
+            }
+
             // Check if this is an image-based monster (special case)
             if (isImageBasedMonster(monster)) {
+                cacheVerdict(monster.getClass(), signature, ViabilityVerdict.VIABLE);
                 return true;
             }
 
             // For skeleton-based monsters, validate skeleton components
             ValidationResult skeletonValidation = validateSkeletonComponents(monster);
             if (!skeletonValidation.isValid) {
+                cacheVerdict(monster.getClass(), signature, ViabilityVerdict.failure(skeletonValidation.details));
                 failedRagdolls.add(monster);
                 return false;
             }
 
+            cacheVerdict(monster.getClass(), signature, ViabilityVerdict.VIABLE);
             return true;
         } catch (Exception e) {
+            cacheVerdict(monster.getClass(), signature, ViabilityVerdict.failure("Validation error: " + e.getMessage()));
             failedRagdolls.add(monster);
             return false;
         }
     }
 
+    /**
+     * Record that ragdoll creation failed for this monster. Later instances of the same class
+     * and skeleton skip creation entirely.
+     */
+    public void recordCreationFailure(AbstractMonster monster, String reason) {
+        String signature;
+        try {
+            signature = getSkeletonSignature(monster);
+        } catch (Exception e) {
+            signature = NO_SKELETON;
+        }
+
+        cacheVerdict(monster.getClass(), signature, ViabilityVerdict.failure(reason));
+    }
+
+    /** Get the cached failure reason for this monster's species (null if viable or unknown) */
+    public String getCachedFailureReason(AbstractMonster monster) {
+        try {
+            ViabilityVerdict verdict = getCachedVerdict(monster.getClass(), getSkeletonSignature(monster));
+            return verdict != null && !verdict.viable ? verdict.reason : null;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
     /** Check if this is an image-based monster (has image but no skeleton) */
     public boolean isImageBasedMonster(AbstractMonster monster) {
         try {
@@ -224,75 +247,60 @@ public class RagdollValidator {
     }
 
     // ================================
-    // REFLECTION ACCESS METHODS
+    // VERDICT CACHE ACCESS
     // ================================
-    /** Get monster's image texture via reflection */
-    private Texture getMonsterImage(AbstractMonster monster) throws IllegalAccessException {
-        if (imgField == null) {
-            throw new IllegalAccessException("imgField not initialized");
+    private static ViabilityVerdict getCachedVerdict(Class<?> monsterClass, String signature) {
+        return SPECIES_VERDICTS.get(monsterClass).get(signature);
+    }
+
+    private static void cacheVerdict(Class<?> monsterClass, String signature, ViabilityVerdict verdict) {
+        SPECIES_VERDICTS.get(monsterClass).put(signature, verdict);
+    }
+
+    /** Identify a skeleton by what is shared across instances of a species, not by SkeletonData identity */
+    private String getSkeletonSignature(AbstractMonster monster) throws IllegalAccessException {
+        Skeleton skeleton = getMonsterSkeleton(monster);
+        if (skeleton == null || skeleton.getData() == null) {
+            return NO_SKELETON;
         }
-        return (Texture) imgField.get(monster);
+        SkeletonData data = skeleton.getData();
+        return data.getName() + "|" + data.getBones().size + "|" + data.getSlots().size;
+    }
+
+    // ================================
+    // CREATURE ACCESS METHODS
+    // ================================
+    /** Get monster's image texture */
+    private Texture getMonsterImage(AbstractMonster monster) throws IllegalAccessException {
+        return CreatureAccessors.getMonsterImage(monster);
     }
 
-    /** Get monster's skeleton via reflection */
+    /** Get monster's skeleton */
     private Skeleton getMonsterSkeleton(AbstractMonster monster) throws IllegalAccessException {
-        if (skeletonField == null) {
-            throw new IllegalAccessException("skeletonField not initialized");
-        }
-        return (Skeleton) skeletonField.get(monster);
+        return CreatureAccessors.getSkeleton(monster);
     }
 
-    /** Get monster's skeleton renderer via reflection */
+    /** Get monster's skeleton renderer */
     private SkeletonRenderer getMonsterSkeletonRenderer(AbstractMonster monster) throws IllegalAccessException {
-        if (srField == null) {
-            throw new IllegalAccessException("srField not initialized");
-        }
-        return (SkeletonRenderer) srField.get(monster);
+        return CreatureAccessors.getSkeletonRenderer(monster);
     }
 
     // ================================
-    // PLAYER REFLECTION ACCESS METHODS
+    // PLAYER ACCESS METHODS
     // ================================
-    /** Get player's image texture via reflection */
-    private Texture getPlayerImage(AbstractPlayer player) throws IllegalAccessException {
-        if (playerImgField != null) {
-            // Try player-specific img field first
-            try {
-                Texture result = (Texture) playerImgField.get(player);
-                return result;
-            } catch (Exception e) {
-                // Continue to fallback
-            }
-        }
-
-        // Fallback: try the monster img field (this will likely fail)
-        if (imgField == null) {
-            throw new IllegalAccessException("imgField not initialized");
-        }
-        try {
-            Texture result = (Texture) imgField.get(player);
-            return result;
-        } catch (Exception e) {
-            return null; // Return null instead of throwing - this is expected to fail
-        }
+    /** Get player's image texture (null if the player class has no image field) */
+    private Texture getPlayerImage(AbstractPlayer player) {
+        return CreatureAccessors.getPlayerImage(player);
     }
 
-    /** Get player's skeleton via reflection */
+    /** Get player's skeleton */
     private Skeleton getPlayerSkeleton(AbstractPlayer player) throws IllegalAccessException {
-        if (skeletonField == null) {
-            throw new IllegalAccessException("skeletonField not initialized");
-        }
-        Skeleton result = (Skeleton) skeletonField.get(player);
-        return result;
+        return CreatureAccessors.getSkeleton(player);
     }
 
-    /** Get player's skeleton renderer via reflection */
+    /** Get player's skeleton renderer */
     private SkeletonRenderer getPlayerSkeletonRenderer(AbstractPlayer player) throws IllegalAccessException {
-        if (srField == null) {
-            throw new IllegalAccessException("srField not initialized");
-        }
-        SkeletonRenderer result = (SkeletonRenderer) srField.get(player);
-        return result;
+        return CreatureAccessors.getSkeletonRenderer(player);
     }
 
     // ================================
@@ -325,7 +333,7 @@ public class RagdollValidator {
 
     /** Get validation statistics */
     public ValidationStats getStats() {
-        return new ValidationStats(validationCount);
+        return new ValidationStats(validationCount, cachedVerdictHits);
     }
 
     // ================================
@@ -373,17 +381,42 @@ public class RagdollValidator {
         }
     }
 
+    /** Cached viability of a monster species, with the reason when it is not viable */
+    public static class ViabilityVerdict {
+        static final ViabilityVerdict VIABLE = new ViabilityVerdict(true, null);
+
+        public final boolean viable;
+        public final String reason;
+
+        private ViabilityVerdict(boolean viable, String reason) {
+            this.viable = viable;
+            this.reason = reason;
+        }
+
+        static ViabilityVerdict failure(String reason) {
+            return new ViabilityVerdict(false, reason);
+        }
+
+        @Override
+        public String toString() {
+            return viable ? "ViabilityVerdict{viable}" : "ViabilityVerdict{failed: " + reason + "}";
+        }
+    }
+
     /** Statistics about validation operations */
     public static class ValidationStats {
         public final int totalValidations;
+        public final int cachedVerdictHits;
 
-        public ValidationStats(int totalValidations) {
+        public ValidationStats(int totalValidations, int cachedVerdictHits) {
             this.totalValidations = totalValidations;
+            this.cachedVerdictHits = cachedVerdictHits;
         }
 
         @Override
         public String toString() {
-            return String.format("ValidationStats{totalValidations=%d}", totalValidations);
+            return String.format("ValidationStats{totalValidations=%d, cachedVerdictHits=%d}",
+                    totalValidations, cachedVerdictHits);
         }
     }
 }
\ No newline at end of file
@@ -1,6 +1,5 @@
 package ragdollphysics.ragdollutil;
 
-import basemod.BaseMod;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
@@ -10,86 +9,17 @@ import com.megacrit.cardcrawl.characters.AbstractPlayer;
 import com.megacrit.cardcrawl.core.AbstractCreature;
 import com.megacrit.cardcrawl.monsters.AbstractMonster;
 
-import java.lang.reflect.Field;
-import java.lang.reflect.Method;
-
 /**
- * Encapsulates all reflection operations for accessing creature internals.
- * Centralizes field access and provides clean interface for monster and player data.
+ * Encapsulates all access to creature internals.
+ * Delegates to the shared CreatureAccessors handles and provides a clean interface for monster and player data.
  */
 public class ReflectionHelper {
-    // Reflection fields for accessing creature internals
-    private static Field atlasField;
-    private static Field imgField;  // For monsters
-    private static Field playerImgField;  // For players
-    private static Field skeletonField;
-    private static Field srField;
-    private static Method renderNameMethod;
-
-    // Initialization status
-    private static boolean fieldsInitialized = false;
-
-    static {
-        initializeFields();
-    }
 
     /**
-     * Initialize all reflection fields and methods
-     */
-    private static void initializeFields() {
-        try {
-            atlasField = AbstractCreature.class.getDeclaredField("atlas");
-            atlasField.setAccessible(true);
-
-            // Monster img field
-            imgField = AbstractMonster.class.getDeclaredField("img");
-            imgField.setAccessible(true);
-
-            // Player img field detection
-            initializePlayerImageField();
-
-            skeletonField = AbstractCreature.class.getDeclaredField("skeleton");
-            skeletonField.setAccessible(true);
-
-            srField = AbstractCreature.class.getDeclaredField("sr");
-            srField.setAccessible(true);
-
-            renderNameMethod = AbstractMonster.class.getDeclaredMethod("renderName", SpriteBatch.class);
-            renderNameMethod.setAccessible(true);
-
-            fieldsInitialized = true;
-        } catch (Exception e) {
-            fieldsInitialized = false;
-            e.printStackTrace();
-        }
-    }
-
-    /**
-     * Initialize player image field detection
-     */
-    private static void initializePlayerImageField() {
-        // Try common field names for player images
-        String[] possiblePlayerImageFields = {"img", "image", "texture", "playerImg", "characterImg"};
-
-        for (String fieldName : possiblePlayerImageFields) {
-            try {
-                Field field = AbstractPlayer.class.getDeclaredField(fieldName);
-                field.setAccessible(true);
-                playerImgField = field;
-                return;
-            } catch (NoSuchFieldException e) {
-                // Continue to next field name
-            } catch (Exception e) {
-                // Continue to next field name
-            }
-        }
-    }
-
-    /**
-     * Check if reflection fields were properly initialized
+     * Check if the creature accessors were properly initialized
      */
     public boolean isInitialized() {
-        return fieldsInitialized;
+        return CreatureAccessors.isInitialized();
     }
 
     // ================================
@@ -100,10 +30,7 @@ public class ReflectionHelper {
      * Get creature's texture atlas
      */
     public TextureAtlas getAtlas(AbstractCreature creature) throws IllegalAccessException {
-        if (atlasField == null) {
-            throw new IllegalAccessException("atlasField not initialized");
-        }
-        return (TextureAtlas) atlasField.get(creature);
+        return CreatureAccessors.getAtlas(creature);
     }
 
     /**
@@ -111,23 +38,9 @@ public class ReflectionHelper {
      */
     public Texture getImage(AbstractCreature creature) throws IllegalAccessException {
         if (creature instanceof AbstractMonster) {
-            // Handle monsters
-            if (imgField == null) {
-                throw new IllegalAccessException("imgField not initialized");
-            }
-            return (Texture) imgField.get(creature);
-
+            return CreatureAccessors.getMonsterImage(creature);
         } else if (creature instanceof AbstractPlayer) {
-            // Handle players
-            if (playerImgField == null) {
-                return null;
-            }
-            try {
-                return (Texture) playerImgField.get(creature);
-            } catch (Exception e) {
-                return null;
-            }
-
+            return CreatureAccessors.getPlayerImage((AbstractPlayer) creature);
         } else {
             return null;
         }
@@ -137,20 +50,14 @@ public class ReflectionHelper {
      * Get creature's skeleton
      */
     public Skeleton getSkeleton(AbstractCreature creature) throws IllegalAccessException {
-        if (skeletonField == null) {
-            throw new IllegalAccessException("skeletonField not initialized");
-        }
-        return (Skeleton) skeletonField.get(creature);
+        return CreatureAccessors.getSkeleton(creature);
     }
 
     /**
      * Get creature's skeleton renderer
      */
     public SkeletonRenderer getSkeletonRenderer(AbstractCreature creature) throws IllegalAccessException {
-        if (srField == null) {
-            throw new IllegalAccessException("srField not initialized");
-        }
-        return (SkeletonRenderer) srField.get(creature);
+        return CreatureAccessors.getSkeletonRenderer(creature);
     }
 
     // ================================
@@ -158,13 +65,10 @@ public class ReflectionHelper {
     // ================================
 
     /**
-     * Render monster's name using reflection
+     * Render monster's name through the resolved handle
      */
     public void renderName(AbstractMonster monster, SpriteBatch sb) throws Exception {
-        if (renderNameMethod == null) {
-            throw new IllegalAccessException("renderNameMethod not initialized");
-        }
-        renderNameMethod.invoke(monster, sb);
+        CreatureAccessors.renderName(monster, sb);
     }
 
     // ================================
@@ -175,13 +79,13 @@ public class ReflectionHelper {
      * Check if player image field was successfully found
      */
     public boolean hasPlayerImageSupport() {
-        return playerImgField != null;
+        return CreatureAccessors.hasPlayerImageSupport();
     }
 
     /**
      * Get the name of the player image field that was found
      */
     public String getPlayerImageFieldName() {
-        return playerImgField != null ? playerImgField.getName() : "none";
+        return CreatureAccessors.getPlayerImageFieldName();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,309 @@
+package ragdollphysics.ragdollutil;
+
+import basemod.BaseMod;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.esotericsoftware.spine.Skeleton;
+import com.esotericsoftware.spine.Slot;
+import com.esotericsoftware.spine.attachments.Attachment;
+import com.esotericsoftware.spine.attachments.MeshAttachment;
+import com.esotericsoftware.spine.attachments.RegionAttachment;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * Draw-call and texture-bind accounting for ragdoll rendering.
+ * Each ragdoll render is wrapped in a scope that records batch draw calls (from the
+ * renderCalls/totalRenderCalls counters), texture switches and vertices submitted, and the
+ * sprite/polygon batch swaps that skeleton rendering forces. Scopes are summed per ragdoll and
+ * per frame; finished frames go into a rolling window that dump() summarises.
+ *
+ * Off by default - every hook is a single flag check while disabled. Toggled and dumped from
+ * the dev console with the ragdollstats command.
+ * Batches are read through BatchCounters and frames through a LongSupplier, so the
+ * accounting also runs against a mock batch without a GL context.
+ */
+public final class RenderStats {
+
+    // ================================
+    // CONFIGURATION
+    // ================================
+
+    public static boolean enabled = false;
+
+    private static final int WINDOW_FRAMES = 120;
+    // Ragdolls with their own totals; the oldest are dropped past this
+    private static final int MAX_TRACKED_RAGDOLLS = 32;
+
+    private static LongSupplier frameClock = () -> Gdx.graphics.getFrameId();
+
+    // ================================
+    // STATE
+    // ================================
+
+    // Open scope
+    private static boolean scopeOpen = false;
+    private static String scopeRagdollId;
+    private static BatchCounters scopeSpriteBatch;
+    private static BatchCounters scopePolygonBatch;
+    private static int scopeSpriteCallsStart;
+    private static int scopePolygonCallsStart;
+    private static final Sample scopeSample = new Sample();
+    private static Texture lastTexture;
+
+    // Current frame
+    private static long currentFrame = -1;
+    private static final Sample frameSample = new Sample();
+    private static int frameRagdolls = 0;
+
+    // Rolling window of finished frames
+    private static final Sample[] window = new Sample[WINDOW_FRAMES];
+    private static final int[] windowRagdolls = new int[WINDOW_FRAMES];
+    private static int windowHead = 0;
+    private static int windowSize = 0;
+
+    // Per ragdoll totals since they were first drawn, most recent ragdolls only
+    private static final Map<String, Sample> perRagdoll = new LinkedHashMap<String, Sample>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Sample> eldest) {
+            return size() > MAX_TRACKED_RAGDOLLS;
+        }
+    };
+
+    static {
+        for (int i = 0; i < WINDOW_FRAMES; i++) {
+            window[i] = new Sample();
+        }
+    }
+
+    private RenderStats() {
+    }
+
+    /** Replace the frame source, e.g. with a counter when running without a GL context */
+    public static void setFrameClock(LongSupplier clock) {
+        frameClock = clock;
+    }
+
+    // ================================
+    // SCOPES
+    // ================================
+
+    /**
+     * Start recording one ragdoll's render work
+     */
+    public static void beginRagdoll(String ragdollId, BatchCounters spriteBatch, BatchCounters polygonBatch) {
+        if (!enabled) return;
+
+        rollFrame();
+        scopeOpen = true;
+        scopeRagdollId = ragdollId;
+        scopeSpriteBatch = spriteBatch;
+        scopePolygonBatch = polygonBatch;
+        scopeSpriteCallsStart = spriteBatch.totalRenderCalls();
+        scopePolygonCallsStart = polygonBatch.totalRenderCalls();
+        scopeSample.clear();
+        lastTexture = null;
+    }
+
+    /**
+     * Record a sprite batch end() / polygon batch begin() swap and back
+     */
+    public static void recordBatchSwap() {
+        if (!enabled || !scopeOpen) return;
+        scopeSample.batchSwaps++;
+    }
+
+    /**
+     * Record one region drawn into the polygon batch
+     */
+    public static void recordDraw(TextureRegion region, int vertices) {
+        if (!enabled || !scopeOpen || region == null) return;
+        recordTexture(region.getTexture());
+        scopeSample.vertices += vertices;
+    }
+
+    /**
+     * Record what SkeletonRenderer.draw submits for a skeleton, walking the draw order
+     */
+    public static void recordSkeleton(Skeleton skeleton) {
+        if (!enabled || !scopeOpen || skeleton == null) return;
+
+        for (Slot slot : skeleton.getDrawOrder()) {
+            Attachment attachment = slot.getAttachment();
+            if (attachment instanceof RegionAttachment) {
+                TextureRegion region = ((RegionAttachment) attachment).getRegion();
+                if (region != null) {
+                    recordTexture(region.getTexture());
+                    scopeSample.vertices += 4;
+                }
+            } else if (attachment instanceof MeshAttachment) {
+                MeshAttachment mesh = (MeshAttachment) attachment;
+                if (mesh.getRegion() != null) {
+                    recordTexture(mesh.getRegion().getTexture());
+                    scopeSample.vertices += mesh.getRegionUVs().length / 2;
+                }
+            }
+        }
+    }
+
+    private static void recordTexture(Texture texture) {
+        if (texture != lastTexture) {
+            if (lastTexture != null) {
+                scopeSample.textureSwitches++;
+            }
+            lastTexture = texture;
+        }
+    }
+
+    /**
+     * Close the scope and add its numbers to the frame and the ragdoll's totals
+     */
+    public static void endRagdoll() {
+        if (!enabled || !scopeOpen) return;
+        scopeOpen = false;
+
+        scopeSample.spriteDrawCalls = scopeSpriteBatch.totalRenderCalls() - scopeSpriteCallsStart;
+        scopeSample.polygonDrawCalls = scopePolygonBatch.totalRenderCalls() - scopePolygonCallsStart;
+
+        frameSample.add(scopeSample);
+        frameRagdolls++;
+
+        Sample total = perRagdoll.get(scopeRagdollId);
+        if (total == null) {
+            total = new Sample();
+            perRagdoll.put(scopeRagdollId, total);
+        }
+        total.add(scopeSample);
+        total.frames++;
+    }
+
+    // ================================
+    // FRAME WINDOW
+    // ================================
+
+    private static void rollFrame() {
+        long frame = frameClock.getAsLong();
+        if (frame == currentFrame) {
+            return;
+        }
+
+        if (currentFrame >= 0 && frameRagdolls > 0) {
+            window[windowHead].copy(frameSample);
+            windowRagdolls[windowHead] = frameRagdolls;
+            windowHead = (windowHead + 1) % WINDOW_FRAMES;
+            windowSize = Math.min(windowSize + 1, WINDOW_FRAMES);
+        }
+
+        currentFrame = frame;
+        frameSample.clear();
+        frameRagdolls = 0;
+    }
+
+    // ================================
+    // REPORTING
+    // ================================
+
+    /**
+     * Summary of the rolling window and per-ragdoll totals
+     */
+    public static String getSummary() {
+        Sample sum = new Sample();
+        Sample peak = new Sample();
+        int ragdollFrames = 0;
+        for (int i = 0; i < windowSize; i++) {
+            sum.add(window[i]);
+            peak.max(window[i]);
+            ragdollFrames += windowRagdolls[i];
+        }
+
+        StringBuilder summary = new StringBuilder();
+        summary.append(String.format("RenderStats over %d frames (%d ragdoll renders)%n", windowSize, ragdollFrames));
+        if (windowSize > 0) {
+            summary.append(String.format("  avg/frame: %s%n", sum.averaged(windowSize)));
+            summary.append(String.format("  peak/frame: %s%n", peak));
+        }
+        for (Map.Entry<String, Sample> entry : perRagdoll.entrySet()) {
+            Sample total = entry.getValue();
+            summary.append(String.format("  %s avg/frame over %d frames: %s%n",
+                    entry.getKey(), total.frames, total.averaged(total.frames)));
+        }
+        return summary.toString();
+    }
+
+    /**
+     * Write the summary to the log
+     */
+    public static void dump() {
+        BaseMod.logger.info(getSummary());
+    }
+
+    /**
+     * Drop all collected numbers
+     */
+    public static void reset() {
+        scopeOpen = false;
+        currentFrame = -1;
+        frameSample.clear();
+        frameRagdolls = 0;
+        windowHead = 0;
+        windowSize = 0;
+        perRagdoll.clear();
+    }
+
+    // ================================
+    // SAMPLE
+    // ================================
+
+    /**
+     * Counters for one scope, frame or ragdoll total
+     */
+    public static class Sample {
+        public int spriteDrawCalls;
+        public int polygonDrawCalls;
+        public int textureSwitches;
+        public int vertices;
+        public int batchSwaps;
+        int frames;
+
+        void clear() {
+            spriteDrawCalls = polygonDrawCalls = textureSwitches = vertices = batchSwaps = frames = 0;
+        }
+
+        void copy(Sample other) {
+            clear();
+            add(other);
+        }
+
+        void add(Sample other) {
+            spriteDrawCalls += other.spriteDrawCalls;
+            polygonDrawCalls += other.polygonDrawCalls;
+            textureSwitches += other.textureSwitches;
+            vertices += other.vertices;
+            batchSwaps += other.batchSwaps;
+        }
+
+        void max(Sample other) {
+            spriteDrawCalls = Math.max(spriteDrawCalls, other.spriteDrawCalls);
+            polygonDrawCalls = Math.max(polygonDrawCalls, other.polygonDrawCalls);
+            textureSwitches = Math.max(textureSwitches, other.textureSwitches);
+            vertices = Math.max(vertices, other.vertices);
+            batchSwaps = Math.max(batchSwaps, other.batchSwaps);
+        }
+
+        String averaged(int count) {
+            if (count <= 0) return toString();
+            return String.format("drawCalls=%.1f+%.1f, textureSwitches=%.1f, vertices=%.0f, batchSwaps=%.1f",
+                    spriteDrawCalls / (float) count, polygonDrawCalls / (float) count,
+                    textureSwitches / (float) count, vertices / (float) count, batchSwaps / (float) count);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("drawCalls=%d+%d, textureSwitches=%d, vertices=%d, batchSwaps=%d",
+                    spriteDrawCalls, polygonDrawCalls, textureSwitches, vertices, batchSwaps);
+        }
+    }
+}
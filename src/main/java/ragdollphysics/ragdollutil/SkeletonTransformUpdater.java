@@ -0,0 +1,136 @@
+package ragdollphysics.ragdollutil;
+
+import com.badlogic.gdx.utils.Array;
+import com.esotericsoftware.spine.Bone;
+import com.esotericsoftware.spine.Skeleton;
+
+/**
+ * Incremental replacement for skeleton.updateWorldTransform() on a ragdolled skeleton.
+ * Only bones whose local rotation moved by more than an epsilon since their world transform
+ * was last computed are recomputed, together with their descendants. Bones are visited in
+ * Spine's bone order, which always lists a parent before its children.
+ *
+ * Falls back to the full update whenever the whole tree is affected anyway (skeleton moved or
+ * flipped) and for skeletons with IK, transform or path constraints, whose results do not
+ * follow the parent chain.
+ */
+public final class SkeletonTransformUpdater {
+
+    private static final float ROTATION_EPSILON = 0.01f; // degrees
+
+    private final Skeleton skeleton;
+    private final Bone[] bones;
+    private final int[] parentIndex;
+    private final float[] appliedRotation;
+    private final boolean[] dirty;
+    private final boolean hasConstraints;
+
+    private boolean primed = false;
+    private float appliedX;
+    private float appliedY;
+    private boolean appliedFlipX;
+    private boolean appliedFlipY;
+
+    // Statistics
+    private int fullUpdates = 0;
+    private int partialUpdates = 0;
+    private int bonesRecomputed = 0;
+
+    public SkeletonTransformUpdater(Skeleton skeleton) {
+        this.skeleton = skeleton;
+
+        Array<Bone> skeletonBones = skeleton.getBones();
+        this.bones = new Bone[skeletonBones.size];
+        this.parentIndex = new int[skeletonBones.size];
+        this.appliedRotation = new float[skeletonBones.size];
+        this.dirty = new boolean[skeletonBones.size];
+
+        for (int i = 0; i < bones.length; i++) {
+            bones[i] = skeletonBones.get(i);
+            parentIndex[i] = skeletonBones.indexOf(bones[i].getParent(), true);
+        }
+
+        this.hasConstraints = skeleton.getIkConstraints().size > 0
+                || skeleton.getTransformConstraints().size > 0
+                || skeleton.getPathConstraints().size > 0;
+    }
+
+    public boolean isFor(Skeleton other) {
+        return skeleton == other;
+    }
+
+    /**
+     * Bring world transforms up to date with the bones' current local state
+     */
+    public void update() {
+        if (!primed || hasConstraints
+                || skeleton.getX() != appliedX || skeleton.getY() != appliedY
+                || skeleton.getFlipX() != appliedFlipX || skeleton.getFlipY() != appliedFlipY) {
+            fullUpdate();
+            return;
+        }
+
+        int recomputed = 0;
+        for (int i = 0; i < bones.length; i++) {
+            Bone bone = bones[i];
+            int parent = parentIndex[i];
+            dirty[i] = Math.abs(bone.getRotation() - appliedRotation[i]) > ROTATION_EPSILON
+                    || (parent >= 0 && dirty[parent]);
+
+            if (dirty[i]) {
+                bone.updateWorldTransform();
+                appliedRotation[i] = bone.getRotation();
+                recomputed++;
+            }
+        }
+
+        if (recomputed > 0) {
+            partialUpdates++;
+            bonesRecomputed += recomputed;
+        }
+    }
+
+    private void fullUpdate() {
+        skeleton.updateWorldTransform();
+
+        for (int i = 0; i < bones.length; i++) {
+            appliedRotation[i] = bones[i].getRotation();
+        }
+        appliedX = skeleton.getX();
+        appliedY = skeleton.getY();
+        appliedFlipX = skeleton.getFlipX();
+        appliedFlipY = skeleton.getFlipY();
+        primed = true;
+
+        fullUpdates++;
+        bonesRecomputed += bones.length;
+    }
+
+    public TransformStats getStats() {
+        return new TransformStats(bones.length, fullUpdates, partialUpdates, bonesRecomputed);
+    }
+
+    // ================================
+    // STATISTICS DATA CLASS
+    // ================================
+
+    public static class TransformStats {
+        public final int boneCount;
+        public final int fullUpdates;
+        public final int partialUpdates;
+        public final int bonesRecomputed;
+
+        public TransformStats(int boneCount, int fullUpdates, int partialUpdates, int bonesRecomputed) {
+            this.boneCount = boneCount;
+            this.fullUpdates = fullUpdates;
+            this.partialUpdates = partialUpdates;
+            this.bonesRecomputed = bonesRecomputed;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("TransformStats{bones=%d, full=%d, partial=%d, recomputed=%d}",
+                    boneCount, fullUpdates, partialUpdates, bonesRecomputed);
+        }
+    }
+}
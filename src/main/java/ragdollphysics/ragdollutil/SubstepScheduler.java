@@ -0,0 +1,44 @@
+package ragdollphysics.ragdollutil;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.megacrit.cardcrawl.core.Settings;
+
+/**
+ * Chooses how many substeps a ragdoll physics step is split into, from the fastest motion
+ * in the ragdoll (CFL-style): no point on any body should travel further than the spatial
+ * tolerance within one substep. Resting bodies get a single step; overkill launches get
+ * up to the hard cap so they don't tunnel through the ground or walls.
+ */
+public class SubstepScheduler {
+
+    // ================================
+    // CONSTANTS
+    // ================================
+
+    // Furthest any point may move in one substep, in unscaled pixels
+    private static final float SPATIAL_TOLERANCE = 12f;
+
+    // Hard cap on substeps per physics step
+    private static final int MAX_SUBSTEPS = 8;
+
+    // Angular speed is turned into the surface speed of a point this far from the body centre
+    private static final float ANGULAR_REFERENCE_RADIUS = 60f;
+
+    // ================================
+    // SCHEDULING
+    // ================================
+
+    /**
+     * Substeps for one physics step, given the largest linear (px/s) and angular (deg/s) speeds
+     */
+    public static int substepsFor(float maxLinearSpeed, float maxAngularSpeed, float stepTime) {
+        float surfaceSpeed = maxAngularSpeed * MathUtils.degreesToRadians * ANGULAR_REFERENCE_RADIUS * Settings.scale;
+        float travel = (maxLinearSpeed + surfaceSpeed) * stepTime;
+        float tolerance = SPATIAL_TOLERANCE * Settings.scale;
+
+        if (travel <= tolerance) {
+            return 1;
+        }
+        return Math.min(MAX_SUBSTEPS, (int) Math.ceil(travel / tolerance));
+    }
+}
@@ -0,0 +1,75 @@
+package ragdollphysics.ragdollutil;
+
+/**
+ * Time of impact for a point moving in a straight line against the world planes that bound
+ * debris: the ground, the ceiling and the two walls. Bodies are moved to the first plane they
+ * cross during a step, respond there, and spend the rest of the step moving with the new
+ * velocity, so fast debris neither tunnels nor loses the motion left after an impact.
+ * Points that start a step outside the world are left to the discrete checks.
+ */
+final class SweptCollision {
+
+    static final int NONE = 0;
+    static final int GROUND = 1;
+    static final int CEILING = 2;
+    static final int RIGHT_WALL = 3;
+    static final int LEFT_WALL = 4;
+
+    /** Contacts resolved per step before the remaining motion is dropped (e.g. wedged in a corner) */
+    static final int MAX_CONTACTS_PER_STEP = 3;
+
+    private SweptCollision() {
+    }
+
+    /**
+     * First plane crossed by the displacement (dx, dy) starting at (x, y), or NONE
+     */
+    static int firstContact(float x, float y, float dx, float dy, float groundY) {
+        int plane = NONE;
+        float earliest = Float.MAX_VALUE;
+
+        if (dy < 0f && y >= groundY && y + dy < groundY) {
+            earliest = (groundY - y) / dy;
+            plane = GROUND;
+        }
+        if (dy > 0f && y <= AttachmentPhysics.CEILING_Y && y + dy > AttachmentPhysics.CEILING_Y) {
+            float t = (AttachmentPhysics.CEILING_Y - y) / dy;
+            if (t < earliest) {
+                earliest = t;
+                plane = CEILING;
+            }
+        }
+        if (dx > 0f && x <= AttachmentPhysics.RIGHT_WALL_X && x + dx > AttachmentPhysics.RIGHT_WALL_X) {
+            float t = (AttachmentPhysics.RIGHT_WALL_X - x) / dx;
+            if (t < earliest) {
+                earliest = t;
+                plane = RIGHT_WALL;
+            }
+        }
+        if (dx < 0f && x >= AttachmentPhysics.LEFT_WALL_X && x + dx < AttachmentPhysics.LEFT_WALL_X) {
+            float t = (AttachmentPhysics.LEFT_WALL_X - x) / dx;
+            if (t < earliest) {
+                plane = LEFT_WALL;
+            }
+        }
+        return plane;
+    }
+
+    /**
+     * Fraction [0, 1] of the displacement travelled before reaching a plane returned by firstContact
+     */
+    static float fraction(int plane, float x, float y, float dx, float dy, float groundY) {
+        switch (plane) {
+            case GROUND:
+                return (groundY - y) / dy;
+            case CEILING:
+                return (AttachmentPhysics.CEILING_Y - y) / dy;
+            case RIGHT_WALL:
+                return (AttachmentPhysics.RIGHT_WALL_X - x) / dx;
+            case LEFT_WALL:
+                return (AttachmentPhysics.LEFT_WALL_X - x) / dx;
+            default:
+                return 1f;
+        }
+    }
+}